@@ -0,0 +1,41 @@
+#!/bin/sh
+# Compares the hand-written scanner and parser with the generated ones, and the analysis of the
+# AST with that of the parse tree, see src/DifferentialCheck.java, on the sources under sample/
+# and on a long source generated here, which the compiler has to get through on the default
+# thread stack. Run it from the root of the repository; it exits with 1 on any mismatch.
+
+ANTLR=lib/antlr-4.11.1-complete.jar
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+javac -Werror -encoding UTF-8 -cp "$ANTLR" -d "$WORK/classes" $(find src -name '*.java') || exit 2
+
+# A source with long operator, unary, call and else-if chains
+mkdir "$WORK/deep"
+awk 'BEGIN {
+    print "entry class Deep:\n    function main() returns int:";
+    printf "        var sum = a0"; for(i = 1; i < 20000; i++) printf " + a%d", i; print ";";
+    printf "        var negated = "; for(i = 0; i < 5000; i++) printf "- "; print "1;";
+    printf "        var call = self"; for(i = 0; i < 5000; i++) printf ".next()"; print ";";
+    print "        if(a) print(0);";
+    for(i = 1; i < 2000; i++) printf "        else if(a%d) print(%d);\n", i, i;
+    for(i = 1; i < 2000; i++) printf "        elif(b%d) print(%d);\n", i, i;
+    print "        return sum;\n    end\nend";
+}' > "$WORK/deep/chains.trl"
+
+status=0
+for mode in --lexer --parser --analysis; do
+    echo "DifferentialCheck $mode"
+    java -cp "$WORK/classes:$ANTLR" DifferentialCheck "$mode" sample "$WORK/deep" || status=1
+done
+
+# The compiler has to get through the long chains on the default thread stack, on its workers
+echo "Compiler -j 2"
+java -cp "$WORK/classes:$ANTLR" Compiler -j 2 sample/input.trl "$WORK/deep/chains.trl" > /dev/null || status=1
+
+# Sources with errors make the compiler exit with 1, but it has to get through every one of them
+echo "Compiler sample/differential"
+if java -cp "$WORK/classes:$ANTLR" Compiler sample/differential 2>&1 > /dev/null | grep "could not compile"; then
+    status=1
+fi
+exit $status
@@ -0,0 +1,166 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles several source files concurrently on a bounded pool of workers. Results are handed out
+ * in the order the files were given, so the output does not depend on which worker finishes first.
+ */
+public class BatchCompiler {
+
+    // How many finished-but-not-yet-handled results each worker may run ahead of the handler
+    private static final int PENDING_RESULTS_PER_JOB = 4;
+
+    // Symbol table dumps are written through a buffer of this size instead of row by row
+    private static final int DUMP_BUFFER_SIZE = 64 * 1024;
+
+    public interface ResultHandler {
+        void onCompiled(Path source, CompilationContext context);
+
+        void onFailed(Path source, Throwable cause);
+    }
+
+    private final int jobs;
+    private final int maxErrors;
+    private final DiagnosticFormat diagnosticFormat;
+    private final ExecutorService sharedPool;
+
+    public BatchCompiler(CompilerOptions options) {
+        this(null, options);
+    }
+
+    /**
+     * Creates a batch compiler that runs its compilations on the given pool instead of starting
+     * its own, so that long-lived callers do not pay for new threads on every batch. A null pool
+     * makes every batch start a pool of its own.
+     */
+    public BatchCompiler(ExecutorService pool, CompilerOptions options) {
+        this.jobs = options.getJobs();
+        this.maxErrors = options.getMaxErrors();
+        this.diagnosticFormat = options.getDiagnosticFormat();
+        this.sharedPool = pool;
+    }
+
+    /**
+     * Creates a pool whose threads are suitable for running compilations.
+     */
+    public static ExecutorService newWorkerPool(int size) {
+        var workerCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, task -> {
+            var thread = new Thread(task, "compiler-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Compiles the sources and prints their results. Returns whether every source compiled without
+     * reporting any diagnostic.
+     */
+    public boolean compile(List<Path> sources, PrintStream out, PrintStream err) throws InterruptedException {
+        final boolean printHeaders = sources.size() > 1;
+        var succeeded = new AtomicBoolean(true);
+
+        compile(sources, new ResultHandler() {
+            @Override
+            public void onCompiled(Path source, CompilationContext context) {
+                if(!context.getDiagnostics().isEmpty()) {
+                    succeeded.set(false);
+                }
+                print(source, context, printHeaders, out, err);
+            }
+
+            @Override
+            public void onFailed(Path source, Throwable cause) {
+                succeeded.set(false);
+                printFailure(source, cause, printHeaders, out, err);
+            }
+        });
+
+        out.flush();
+        err.flush();
+        return succeeded.get();
+    }
+
+    public void compile(List<Path> sources, ResultHandler handler) throws InterruptedException {
+        final int poolSize = Math.max(1, Math.min(jobs, sources.size()));
+        final int window = poolSize * PENDING_RESULTS_PER_JOB;
+
+        ExecutorService pool = (sharedPool != null) ? sharedPool : newWorkerPool(poolSize);
+        Deque<Future<CompilationContext>> pending = new ArrayDeque<>();
+        try {
+            Iterator<Path> remaining = sources.iterator();
+            Iterator<Path> handled = sources.iterator();
+
+            while(remaining.hasNext() || !pending.isEmpty()) {
+                while(remaining.hasNext() && pending.size() < window) {
+                    Path source = remaining.next();
+                    pending.add(pool.submit(() -> Compiler.compile(source, maxErrors)));
+                }
+
+                Path source = handled.next();
+                try {
+                    handler.onCompiled(source, pending.poll().get());
+                } catch (ExecutionException e) {
+                    handler.onFailed(source, e.getCause());
+                }
+            }
+        } finally {
+            if(sharedPool == null) {
+                pool.shutdownNow();
+            } else {
+                pending.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    /**
+     * Prints the symbol tables of a compilation to out and its diagnostics, all at once, to err.
+     */
+    public void print(Path source, CompilationContext context, boolean printHeader, PrintStream out, PrintStream err) {
+        if(printHeader) {
+            printHeader(source, out);
+        }
+        try {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()), DUMP_BUFFER_SIZE);
+            context.dumpSymbolTables(writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        err.print(diagnosticFormat.render(source, context.getDiagnostics()));
+    }
+
+    /**
+     * Prints why a compilation failed to err, after the diagnostics it reported before failing.
+     */
+    public void printFailure(Path source, Throwable cause, boolean printHeader, PrintStream out, PrintStream err) {
+        if(printHeader) {
+            printHeader(source, out);
+        }
+        if(cause instanceof Compiler.CompilationFailedException failure) {
+            err.print(diagnosticFormat.render(source, failure.getContext().getDiagnostics()));
+            cause = failure.getCause();
+        }
+        err.printf("Error: could not compile [%s]: %s\n", source, cause);
+    }
+
+    private static void printHeader(Path source, PrintStream out) {
+        out.println("#".repeat(30) + " " + source + " " + "#".repeat(30));
+    }
+
+}
@@ -0,0 +1,110 @@
+import model.ClassItem;
+import model.TypeTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds everything produced while compiling a single source file: the tree of scopes, the reported
+ * errors and the inheritance relation between the declared classes. Nothing is shared between two
+ * contexts, so independent compilations can run on different threads and everything a compilation
+ * allocated becomes garbage as soon as its context is dropped.
+ */
+public class CompilationContext {
+
+    private final Path source;
+
+    private final List<SymbolTable> symbolTables = new ArrayList<>();
+    private final ScopeRegistry scopeRegistry = new ScopeRegistry();
+
+    // The identifiers of the source, interned by the scanner
+    private final NameTable names = new NameTable();
+
+    private final TypeTable types = new TypeTable();
+
+    private final Diagnostics diagnostics;
+    private final ErrorReporter errorReporter;
+
+    // Inheritance cycles are looked for in the iteration order of this map, which decides the class
+    // each reported hierarchy starts with
+    private final Map<String, String> classesToParents = new HashMap<>();
+
+    public CompilationContext(Path source) {
+        this(source, Diagnostics.NO_LIMIT);
+    }
+
+    /**
+     * Creates the context of a compilation that is stopped once maxErrors errors were reported.
+     */
+    public CompilationContext(Path source, int maxErrors) {
+        this.source = source;
+        this.diagnostics = new Diagnostics(maxErrors);
+        this.errorReporter = new ErrorReporter(diagnostics);
+    }
+
+    public Path getSource() {
+        return source;
+    }
+
+    public SymbolTable createScope(String name, int scopeNumber, SymbolTable parent) {
+        var scope = new SymbolTable(name, scopeNumber, parent, scopeRegistry);
+        symbolTables.add(scope);
+        return scope;
+    }
+
+    /**
+     * Creates the scope of a class, through which the subclasses of the class resolve the names
+     * they inherit.
+     */
+    public SymbolTable createClassScope(ClassItem classItem, int scopeNumber, SymbolTable parent) {
+        var scope = new SymbolTable(classItem.getName(), scopeNumber, parent, scopeRegistry, classItem);
+        symbolTables.add(scope);
+        scopeRegistry.registerClassScope(classItem.getName(), scope);
+        return scope;
+    }
+
+    /**
+     * Returns every scope of the compilation in the order they were opened.
+     */
+    public List<SymbolTable> getSymbolTables() {
+        return Collections.unmodifiableList(symbolTables);
+    }
+
+    public SymbolTable getRootScope() {
+        return symbolTables.isEmpty() ? null : symbolTables.get(0);
+    }
+
+    public NameTable getNames() {
+        return names;
+    }
+
+    public TypeTable getTypes() {
+        return types;
+    }
+
+    public ErrorReporter getErrorReporter() {
+        return errorReporter;
+    }
+
+    public Diagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    public Map<String, String> getClassesToParents() {
+        return classesToParents;
+    }
+
+    public void dumpSymbolTables(Appendable output) throws IOException {
+        var scratch = new StringBuilder();
+        for(SymbolTable table : symbolTables) {
+            table.dump(output, scratch);
+            output.append(System.lineSeparator());
+        }
+    }
+
+}
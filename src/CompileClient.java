@@ -0,0 +1,51 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Thin client for CompileServer. Takes the same arguments as Compiler, with an optional leading
+ * --port, and prints the server's output as if the compiler had run in this process.
+ */
+public class CompileClient {
+
+    public static void main(String[] args) throws IOException {
+        int port = CompileServer.DEFAULT_PORT;
+        if(args.length >= 2 && "--port".equals(args[0])) {
+            port = Integer.parseInt(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            Writer request = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            request.write(Path.of("").toAbsolutePath() + "\n");
+            for(String arg : args) {
+                request.write(arg + "\n");
+            }
+            request.write("\n");
+            request.flush();
+
+            var response = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            int status = response.readInt();
+            System.out.write(response.readNBytes(response.readInt()));
+            System.out.flush();
+            System.err.write(response.readNBytes(response.readInt()));
+            System.err.flush();
+
+            if(status != 0) {
+                System.exit(status);
+            }
+        } catch (ConnectException e) {
+            System.err.printf("compile server is not running on port %d\n", port);
+            System.exit(3);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Long-lived compile daemon listening on the loopback interface. Every request served by this
+ * process runs on classes that are already loaded and compiled by the JIT instead of paying for
+ * JVM startup on each run. The generated parser, which parses the sources AstParser rejects, keeps
+ * its deserialized ATN, DFA cache (ToorlaParser._decisionToDFA) and PredictionContextCache in
+ * static fields, so it also reuses the predictions of the previous requests. Both parsers are
+ * warmed up on a sample source before the first request.
+ *
+ * A request is the client's working directory on the first line followed by one Compiler argument
+ * per line and an empty line. The response is the exit status followed by the length-prefixed
+ * standard output and standard error of the run. See CompileClient. Requests for --watch, which
+ * never finishes, are rejected with status 2.
+ */
+public class CompileServer {
+
+    public static final int DEFAULT_PORT = 7300;
+
+    private static final String WARM_UP_FILE_PATH = "sample/input.trl";
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService compilePool = BatchCompiler.newWorkerPool(Runtime.getRuntime().availableProcessors());
+    private final ExecutorService connectionPool = Executors.newCachedThreadPool();
+
+    public CompileServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        if(args.length == 2 && "--port".equals(args[0])) {
+            port = Integer.parseInt(args[1]);
+        } else if(args.length != 0) {
+            System.err.println("usage: CompileServer [--port <port>]");
+            System.exit(2);
+        }
+
+        var server = new CompileServer(port);
+        server.warmUp();
+        System.err.printf("compile server listening on port %d\n", port);
+        server.serve();
+    }
+
+    private void warmUp() {
+        var source = Path.of(WARM_UP_FILE_PATH);
+        if(!Files.isRegularFile(source))
+            return;
+
+        try {
+            Compiler.compile(source);
+            // The sample has no syntax errors, so compiling it never got to the generated parser
+            Compiler.warmUpTreeParser(source);
+        } catch (IOException ignored) {
+
+        }
+    }
+
+    public void serve() throws IOException {
+        while(!serverSocket.isClosed()) {
+            Socket socket = serverSocket.accept();
+            connectionPool.execute(() -> handle(socket));
+        }
+    }
+
+    private void handle(Socket socket) {
+        try(socket) {
+            var request = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            var firstLine = request.readLine();
+            if(firstLine == null) {
+                reject(socket, "compile server: empty request");
+                return;
+            }
+            List<String> args = new ArrayList<>();
+            String line;
+            while((line = request.readLine()) != null && !line.isEmpty()) {
+                args.add(line);
+            }
+
+            // A watch never ends and its output is only sent once the run ends, so it would hang
+            // the client and keep a connection thread for good
+            if(args.contains("--watch")) {
+                reject(socket, "compile server: --watch is not supported, run Compiler --watch instead");
+                return;
+            }
+
+            var out = new ByteArrayOutputStream();
+            var err = new ByteArrayOutputStream();
+            // The client waits for a response however the run ends, so a run that fails still
+            // answers with status 2 and the error after whatever the run printed
+            int status = 2;
+            try(var outStream = new PrintStream(out, false, StandardCharsets.UTF_8);
+                var errStream = new PrintStream(err, false, StandardCharsets.UTF_8)) {
+                var workingDirectory = Path.of(firstLine);
+                status = Compiler.run(args.toArray(new String[0]), workingDirectory, compilePool, outStream, errStream);
+            } catch (IOException | RuntimeException e) {
+                appendLine(err, "compile server: compilation failed: " + e);
+            } catch (InterruptedException e) {
+                appendLine(err, "compile server: compilation interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+            respond(socket, status, out, err);
+        } catch (IOException e) {
+            System.err.printf("compile server: request failed: %s\n", e);
+        }
+    }
+
+    private static void reject(Socket socket, String message) throws IOException {
+        var err = new ByteArrayOutputStream();
+        appendLine(err, message);
+        respond(socket, 2, new ByteArrayOutputStream(), err);
+    }
+
+    private static void appendLine(ByteArrayOutputStream output, String line) {
+        output.writeBytes((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(Socket socket, int status, ByteArrayOutputStream out, ByteArrayOutputStream err) throws IOException {
+        var response = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        response.writeInt(status);
+        response.writeInt(out.size());
+        out.writeTo(response);
+        response.writeInt(err.size());
+        err.writeTo(response);
+        response.flush();
+    }
+
+}
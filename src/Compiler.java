@@ -1,36 +1,213 @@
-import gen.ToorlaLexer;
+import ast.AstBuilder;
+import ast.AstParser;
+import ast.Program;
 import gen.ToorlaListener;
 import gen.ToorlaParser;
-import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.IterativeParseTreeWalker;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 public class Compiler {
 
     private static final String SAMPLE_TEST_FILE_PATH = "sample/input.trl";
 
-    public static void main(String[] args) throws IOException {
-        ParseTree tree = buildTree();
-        ToorlaListener listener = new SymbolTableProgramPrinter();
+    /**
+     * Thrown when a compilation fails for another reason than its errors, with the context holding
+     * whatever the compilation reported before it failed.
+     */
+    public static class CompilationFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
 
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(listener, tree);
+        private final transient CompilationContext context;
 
-        SymbolTable.getAllInstances().forEach(System.out::println);
+        public CompilationFailedException(CompilationContext context, Throwable cause) {
+            super(cause);
+            this.context = context;
+        }
+
+        public CompilationContext getContext() {
+            return context;
+        }
+    }
+
+    private static final String USAGE = "usage: Compiler [-j <jobs>] [--watch] [--diagnostics text|json|sarif] [--max-errors <count>] [<file or directory>...]";
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int status = run(args, Path.of(""), null, System.out, System.err);
+        if(status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Compiles the sources named by the command line arguments, resolving relative paths against
+     * workingDirectory. When pool is not null the compilations run on it instead of a new pool.
+     * Returns the exit status of the run: 0 when every source compiled without errors, 1 when one
+     * of them did not and 2 for a bad command line.
+     */
+    public static int run(String[] args, Path workingDirectory, ExecutorService pool, PrintStream out, PrintStream err) throws IOException, InterruptedException {
+        CompilerOptions options;
+        try {
+            options = CompilerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+
+        var sources = options.hasSources() ? options.collectSourceFiles(workingDirectory) : List.of(workingDirectory.resolve(SAMPLE_TEST_FILE_PATH));
+
+        var batchCompiler = (pool == null) ? new BatchCompiler(options) : new BatchCompiler(pool, options);
+        if(options.isWatching()) {
+            // Every change is compiled as a batch of its own, so keep one pool for all of them
+            if(pool == null) {
+                batchCompiler = new BatchCompiler(BatchCompiler.newWorkerPool(options.getJobs()), options);
+            }
+            var roots = options.hasSources() ? options.getSourcePaths(workingDirectory) : sources;
+            new SourceWatcher(batchCompiler, out, err).watch(roots);
+            return 0;
+        }
+
+        // Scripts can tell from the status whether anything went wrong without parsing the output
+        return batchCompiler.compile(sources, out, err) ? 0 : 1;
     }
 
-    private static ParseTree buildTree() throws IOException {
-        CharStream stream = CharStreams.fromFileName(SAMPLE_TEST_FILE_PATH);
-        ToorlaLexer lexer = new ToorlaLexer(stream);
+    public static CompilationContext compile(Path source) throws IOException {
+        return compile(source, Diagnostics.NO_LIMIT);
+    }
+
+    /**
+     * Compiles a single source, stopping as soon as more than maxErrors errors were reported. The
+     * returned context then holds whatever was produced up to that point. A compilation failing
+     * otherwise throws a CompilationFailedException with the diagnostics reported before.
+     */
+    public static CompilationContext compile(Path source, int maxErrors) throws IOException {
+        var context = new CompilationContext(source, maxErrors);
+
+        try {
+            // The parse tree is no longer reachable once parse returns, so only the much smaller AST
+            // is kept while the program is analysed
+            var program = parse(source, context);
+            if(program != null) {
+                new SymbolTableAstWalker(context).walk(program);
+            }
+        } catch (Diagnostics.LimitReachedException ignored) {
+
+        } catch (RuntimeException | StackOverflowError e) {
+            throw new CompilationFailedException(context, e);
+        }
+
+        return context;
+    }
+
+    /**
+     * Parses the source and returns its AST, or null when the source has syntax errors. A parse
+     * tree with syntax errors cannot be lowered, so it is analysed as it is before returning.
+     */
+    private static Program parse(Path source, CompilationContext context) throws IOException {
+        CharStream stream = MappedCharStream.open(source);
+
+        // AstParser builds the AST of most sources without a parse tree. It gives up at the first
+        // error, lexical or syntactic, and reports nothing, so such a source is parsed again by
+        // ToorlaParser, which reports every error and recovers from them.
+        try {
+            return parseAst(stream, context.getNames());
+        } catch (AstParser.SyntaxError ignored) {
+
+        }
+
+        stream.seek(0);
+        var parsed = buildTree(stream, context.getErrorReporter(), context.getNames());
+        if(!parsed.hasSyntaxErrors())
+            return new AstBuilder().build(parsed.tree());
+
+        // The signatures are keyed by the nodes of the tree, so they must not outlive the walk
+        var methodSignatures = new MethodSignatures(context.getTypes());
+        ToorlaListener listener = new SymbolTableProgramPrinter(context, methodSignatures);
+
+        // Left-recursive expressions produce trees as deep as they are long, so the walk must not
+        // use the thread stack
+        ParseTreeWalker walker = new IterativeParseTreeWalker();
+        walker.walk(listener, parsed.tree());
+        return null;
+    }
+
+    /**
+     * Parses the source with ToorlaParser and drops the tree. Compilations only get to ToorlaParser
+     * for sources AstParser rejects, so a long-lived process calls this to fill the DFA cache of
+     * ToorlaParser before the first such source.
+     */
+    static void warmUpTreeParser(Path source) throws IOException {
+        var context = new CompilationContext(source, Diagnostics.NO_LIMIT);
+        buildTree(MappedCharStream.open(source), context.getErrorReporter(), context.getNames());
+    }
+
+    private static Program parseAst(CharStream stream, NameTable names) {
+        var lexerErrorListener = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                throw new AstParser.SyntaxError(msg, line, charPositionInLine);
+            }
+        };
+
+        ToorlaScanner lexer = new ToorlaScanner(stream, names);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(lexerErrorListener);
+        return new AstParser(lexer).parseProgram();
+    }
+
+    private record ParsedTree(ToorlaParser.ProgramContext tree, boolean hasSyntaxErrors) {
+
+    }
+
+    private static ParsedTree buildTree(CharStream stream, ErrorReporter errorReporter, NameTable names) {
+        var syntaxErrorListener = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                errorReporter.reportSyntaxError(msg, line, charPositionInLine);
+            }
+        };
+
+        ToorlaScanner lexer = new ToorlaScanner(stream, names);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(syntaxErrorListener);
         TokenStream tokens = new CommonTokenStream(lexer);
         ToorlaParser parser = new ToorlaParser(tokens);
+        parser.removeErrorListeners();
         parser.setBuildParseTree(true);
-        return parser.program();
+
+        // Most inputs parse with the cheaper SLL prediction. It can fail on valid input as well as
+        // on real syntax errors, so any failure is retried with full LL, which reports the errors.
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return new ParsedTree(parser.program(), false);
+        } catch (ParseCancellationException ignored) {
+
+        }
+
+        tokens.seek(0);
+        parser.reset();
+        parser.addErrorListener(syntaxErrorListener);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        var tree = parser.program();
+        return new ParsedTree(tree, parser.getNumberOfSyntaxErrors() > 0);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CompilerOptions {
+
+    private static final String SOURCE_FILE_EXTENSION = ".trl";
+
+    private final List<Path> sources = new ArrayList<>();
+    private int jobs = Runtime.getRuntime().availableProcessors();
+    private boolean watching = false;
+    private DiagnosticFormat diagnosticFormat = DiagnosticFormat.TEXT;
+    private int maxErrors = Diagnostics.NO_LIMIT;
+
+    public static CompilerOptions parse(String[] args) {
+        var options = new CompilerOptions();
+
+        for(int i = 0; i < args.length; i++) {
+            var arg = args[i];
+            if("-j".equals(arg) || "--jobs".equals(arg)) {
+                if(i + 1 == args.length)
+                    throw new IllegalArgumentException("missing value for " + arg);
+                options.jobs = Integer.parseInt(args[++i]);
+                if(options.jobs < 1)
+                    throw new IllegalArgumentException("number of jobs must be positive");
+            } else if("--watch".equals(arg)) {
+                options.watching = true;
+            } else if("--diagnostics".equals(arg)) {
+                if(i + 1 == args.length)
+                    throw new IllegalArgumentException("missing value for " + arg);
+                options.diagnosticFormat = DiagnosticFormat.parse(args[++i]);
+            } else if("--max-errors".equals(arg)) {
+                if(i + 1 == args.length)
+                    throw new IllegalArgumentException("missing value for " + arg);
+                options.maxErrors = Integer.parseInt(args[++i]);
+                if(options.maxErrors < 0)
+                    throw new IllegalArgumentException("maximum number of errors must not be negative");
+            } else if(arg.startsWith("-")) {
+                throw new IllegalArgumentException("unknown option " + arg);
+            } else {
+                options.sources.add(Path.of(arg));
+            }
+        }
+
+        return options;
+    }
+
+    public int getJobs() {
+        return jobs;
+    }
+
+    public boolean isWatching() {
+        return watching;
+    }
+
+    public DiagnosticFormat getDiagnosticFormat() {
+        return diagnosticFormat;
+    }
+
+    /**
+     * Returns after how many errors a compilation is stopped, or Diagnostics.NO_LIMIT.
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public boolean hasSources() {
+        return !sources.isEmpty();
+    }
+
+    public List<Path> getSourcePaths(Path workingDirectory) {
+        return sources.stream().map(workingDirectory::resolve).toList();
+    }
+
+    public List<Path> collectSourceFiles() throws IOException {
+        return collectSourceFiles(Path.of(""));
+    }
+
+    /**
+     * Expands the given paths, resolved against workingDirectory, into the list of source files to
+     * compile. Directories are searched recursively for .trl files, which are sorted so that the
+     * output order is stable between runs.
+     */
+    public List<Path> collectSourceFiles(Path workingDirectory) throws IOException {
+        List<Path> files = new ArrayList<>();
+
+        for(Path path : sources) {
+            var source = workingDirectory.resolve(path);
+            if(!Files.isDirectory(source)) {
+                files.add(source);
+                continue;
+            }
+
+            try(Stream<Path> walk = Files.walk(source)) {
+                walk.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().endsWith(SOURCE_FILE_EXTENSION))
+                        .sorted()
+                        .forEach(files::add);
+            }
+        }
+
+        return files;
+    }
+
+}
@@ -0,0 +1,52 @@
+import java.util.List;
+
+/**
+ * A single reported error. Diagnostics without a position in the source, such as circular
+ * inheritance, have NO_POSITION as their line and column.
+ */
+public class Diagnostic {
+
+    public static final int NO_POSITION = -1;
+
+    private final DiagnosticCode code;
+    private final int line;
+    private final int column;
+    private final List<String> args;
+
+    public Diagnostic(DiagnosticCode code, int line, int column, List<String> args) {
+        this.code = code;
+        this.line = line;
+        this.column = column;
+        this.args = List.copyOf(args);
+    }
+
+    public DiagnosticCode getCode() {
+        return code;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public boolean hasPosition() {
+        return line != NO_POSITION;
+    }
+
+    public List<String> getArgs() {
+        return args;
+    }
+
+    public String getMessage() {
+        return code.format(line, column, args);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+}
@@ -0,0 +1,56 @@
+import java.util.List;
+
+/**
+ * The kinds of errors the compiler reports. Every kind knows how to render its arguments into the
+ * message that is shown to the user.
+ */
+public enum DiagnosticCode {
+
+    SYNTAX_ERROR("syntax", "line %d:%d %s"),
+    CLASS_REDEFINITION("101", "Error 101: in line [%d:%d], class [%s] has been defined already"),
+    METHOD_REDEFINITION("102", "Error 102: in line [%d:%d], method [%s] has been defined already"),
+    FIELD_REDEFINITION("103", "Error 103: in line [%d:%d], field [%s] has been defined already"),
+    LOCAL_VARIABLE_REDEFINITION("104", "Error 104: in line [%d:%d], var [%s] has been defined already"),
+    INCOMPATIBLE_RETURN_TYPE("210", "Error 210: in line [%d:%d], return type of this method must be %s"),
+    PRIVATE_METHOD_ACCESS("310", "Error 310: in line [%d:%d], private methods are not accessible outside of class"),
+    CIRCULAR_INHERITANCE("410", "Error 410: Invalid inheritance %s") {
+        @Override
+        public String format(int line, int column, List<String> args) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < args.size(); i++) {
+                builder
+                        .append("[")
+                        .append(args.get(i))
+                        .append("]");
+
+                if(i != args.size() - 1) {
+                    builder.append(" -> ");
+                }
+            }
+            return String.format(template, builder);
+        }
+    };
+
+    private final String id;
+    protected final String template;
+
+    DiagnosticCode(String id, String template) {
+        this.id = id;
+        this.template = template;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String format(int line, int column, List<String> args) {
+        Object[] values = new Object[args.size() + 2];
+        values[0] = line;
+        values[1] = column;
+        for(int i = 0; i < args.size(); i++) {
+            values[i + 2] = args.get(i);
+        }
+        return String.format(template, values);
+    }
+
+}
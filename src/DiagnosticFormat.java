@@ -0,0 +1,129 @@
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The ways the diagnostics of a compilation can be written out. TEXT is the plain listing meant for
+ * people. JSON writes one object per compilation on a single line, so the output of a batch is a
+ * stream of JSON lines. SARIF writes one SARIF 2.1.0 log per compilation, also on a single line.
+ */
+public enum DiagnosticFormat {
+
+    TEXT,
+    JSON,
+    SARIF;
+
+    private static final String TOOL_NAME = "toorla-compiler";
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    public static DiagnosticFormat parse(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown diagnostics format " + name);
+        }
+    }
+
+    public String render(Path source, Diagnostics diagnostics) {
+        var output = new StringBuilder();
+        switch(this) {
+            case TEXT -> renderText(diagnostics, output);
+            case JSON -> renderJson(source, diagnostics, output);
+            case SARIF -> renderSarif(source, diagnostics, output);
+        }
+        return output.toString();
+    }
+
+    private static void renderText(Diagnostics diagnostics, StringBuilder output) {
+        for(Diagnostic diagnostic : diagnostics.getAll()) {
+            output.append(diagnostic.getMessage()).append('\n');
+        }
+        if(diagnostics.isAborted()) {
+            output.append("Compilation stopped after ").append(diagnostics.size()).append(" errors\n");
+        }
+    }
+
+    private static void renderJson(Path source, Diagnostics diagnostics, StringBuilder output) {
+        output.append("{\"file\":");
+        appendString(output, source.toString());
+        output.append(",\"aborted\":").append(diagnostics.isAborted());
+        output.append(",\"diagnostics\":[");
+        List<Diagnostic> all = diagnostics.getAll();
+        for(int i = 0; i < all.size(); i++) {
+            var diagnostic = all.get(i);
+            if(i != 0) {
+                output.append(',');
+            }
+            output.append("{\"code\":");
+            appendString(output, diagnostic.getCode().getId());
+            if(diagnostic.hasPosition()) {
+                output.append(",\"line\":").append(diagnostic.getLine());
+                output.append(",\"column\":").append(diagnostic.getColumn());
+            }
+            output.append(",\"args\":[");
+            for(int j = 0; j < diagnostic.getArgs().size(); j++) {
+                if(j != 0) {
+                    output.append(',');
+                }
+                appendString(output, diagnostic.getArgs().get(j));
+            }
+            output.append("],\"message\":");
+            appendString(output, diagnostic.getMessage());
+            output.append('}');
+        }
+        output.append("]}\n");
+    }
+
+    private static void renderSarif(Path source, Diagnostics diagnostics, StringBuilder output) {
+        output.append("{\"$schema\":");
+        appendString(output, SARIF_SCHEMA);
+        output.append(",\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{\"name\":");
+        appendString(output, TOOL_NAME);
+        output.append("}},\"invocations\":[{\"executionSuccessful\":").append(!diagnostics.isAborted()).append("}]");
+        output.append(",\"results\":[");
+        List<Diagnostic> all = diagnostics.getAll();
+        for(int i = 0; i < all.size(); i++) {
+            var diagnostic = all.get(i);
+            if(i != 0) {
+                output.append(',');
+            }
+            output.append("{\"ruleId\":");
+            appendString(output, diagnostic.getCode().getId());
+            output.append(",\"level\":\"error\",\"message\":{\"text\":");
+            appendString(output, diagnostic.getMessage());
+            output.append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+            appendString(output, source.toUri().toString());
+            output.append('}');
+            if(diagnostic.hasPosition()) {
+                // SARIF columns start at 1 while the parser counts them from 0
+                output.append(",\"region\":{\"startLine\":").append(diagnostic.getLine())
+                        .append(",\"startColumn\":").append(diagnostic.getColumn() + 1).append('}');
+            }
+            output.append("}}]}");
+        }
+        output.append("]}]}\n");
+    }
+
+    private static void appendString(StringBuilder output, String value) {
+        output.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch(c) {
+                case '"' -> output.append("\\\"");
+                case '\\' -> output.append("\\\\");
+                case '\n' -> output.append("\\n");
+                case '\r' -> output.append("\\r");
+                case '\t' -> output.append("\\t");
+                default -> {
+                    if(c < 0x20) {
+                        output.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        output.append(c);
+                    }
+                }
+            }
+        }
+        output.append('"');
+    }
+
+}
@@ -0,0 +1,72 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the diagnostics of one compilation in memory. They are written out once, after the
+ * compilation finished, in whatever DiagnosticFormat was asked for.
+ *
+ * When a limit is set, reporting a diagnostic beyond it throws a LimitReachedException so the
+ * compilation stops instead of producing more errors nobody is going to read. A compilation with
+ * exactly as many diagnostics as the limit allows is not aborted.
+ */
+public class Diagnostics {
+
+    public static final int NO_LIMIT = 0;
+
+    public static class LimitReachedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public LimitReachedException(int limit) {
+            super("too many errors (" + limit + ")", null, false, false);
+        }
+    }
+
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final int limit;
+    private boolean aborted = false;
+
+    public Diagnostics() {
+        this(NO_LIMIT);
+    }
+
+    public Diagnostics(int limit) {
+        this.limit = limit;
+    }
+
+    public void report(Diagnostic diagnostic) {
+        if(aborted)
+            throw new LimitReachedException(limit);
+
+        // The diagnostic past the limit is the one that shows something is left out
+        if(limit != NO_LIMIT && diagnostics.size() >= limit) {
+            aborted = true;
+            throw new LimitReachedException(limit);
+        }
+        diagnostics.add(diagnostic);
+    }
+
+    public List<Diagnostic> getAll() {
+        return Collections.unmodifiableList(diagnostics);
+    }
+
+    public int size() {
+        return diagnostics.size();
+    }
+
+    public boolean isEmpty() {
+        return diagnostics.isEmpty();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Whether the compilation stopped early because the limit was reached.
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+}
@@ -0,0 +1,229 @@
+import ast.AstBuilder;
+import ast.AstParser;
+import ast.Program;
+import gen.ToorlaLexer;
+import gen.ToorlaParser;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.tree.IterativeParseTreeWalker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Compares the hand-written front end with the generated one on a corpus of sources and reports
+ * every source on which they disagree. The generated lexer and parser are the reference.
+ *
+ * With --lexer, ToorlaScanner has to produce the tokens and errors of ToorlaLexer. With --parser,
+ * AstParser has to reject the sources ToorlaParser rejects, and build the tree AstBuilder builds
+ * for the others. The reference reads the sources with CharStreams and the hand-written front end
+ * through MappedCharStream, so the check covers the decoding of the sources as well.
+ *
+ * With --analysis, SymbolTableAstWalker has to build the symbol tables and report the errors
+ * SymbolTableProgramPrinter does on the parse tree of every source without syntax errors.
+ */
+public class DifferentialCheck {
+
+    private static final String USAGE = "usage: DifferentialCheck --lexer|--parser|--analysis <file or directory>...";
+
+    private static final List<String> MODES = List.of("--lexer", "--parser", "--analysis");
+
+    private static final long REFERENCE_STACK_SIZE = 64L * 1024 * 1024;
+
+    // Longest description of a mismatching tree that is printed
+    private static final int MAX_TREE_LENGTH = 500;
+
+    public static void main(String[] args) throws Exception {
+        if(args.length < 2 || !MODES.contains(args[0])) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        var mode = args[0];
+
+        var options = CompilerOptions.parse(Arrays.copyOfRange(args, 1, args.length));
+        var sources = options.collectSourceFiles();
+
+        // The generated parser recurses once per nesting level of the source, and so does the
+        // comparison of the trees, so the check runs on a thread with a stack for the deep sources
+        // of the corpus. The compiler walks them on the default stack.
+        var check = new FutureTask<>(() -> check(sources, mode));
+        new Thread(null, check, "differential-check", REFERENCE_STACK_SIZE).start();
+        int mismatches = check.get();
+
+        System.out.printf("%d mismatching sources\n", mismatches);
+        System.exit(mismatches == 0 ? 0 : 1);
+    }
+
+    private static int check(List<Path> sources, String mode) throws IOException {
+        int mismatches = 0;
+        for(Path source : sources) {
+            String mismatch;
+            if("--parser".equals(mode)) {
+                mismatch = compareParsers(CharStreams.fromPath(source), MappedCharStream.open(source));
+            } else if("--analysis".equals(mode)) {
+                mismatch = compareAnalyses(source);
+            } else {
+                mismatch = compareLexers(CharStreams.fromPath(source), MappedCharStream.open(source));
+            }
+            if(mismatch != null) {
+                mismatches++;
+                System.out.printf("%s: %s\n", source, mismatch);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Lexes the same input with the generated lexer and with ToorlaScanner, each reading its own
+     * stream, and describes the first difference in the tokens or the reported errors, or returns
+     * null when there is none.
+     */
+    public static String compareLexers(CharStream expectedInput, CharStream actualInput) {
+        List<String> expectedErrors = new ArrayList<>();
+        var expectedLexer = new ToorlaLexer(expectedInput);
+        expectedLexer.removeErrorListeners();
+        expectedLexer.addErrorListener(collectingListener(expectedErrors));
+
+        List<String> actualErrors = new ArrayList<>();
+        var actualLexer = new ToorlaScanner(actualInput);
+        actualLexer.removeErrorListeners();
+        actualLexer.addErrorListener(collectingListener(actualErrors));
+
+        var expectedTokens = lex(expectedLexer);
+        var actualTokens = lex(actualLexer);
+        for(int i = 0; i < Math.max(expectedTokens.size(), actualTokens.size()); i++) {
+            var expected = (i < expectedTokens.size()) ? expectedTokens.get(i) : "nothing";
+            var actual = (i < actualTokens.size()) ? actualTokens.get(i) : "nothing";
+            if(!expected.equals(actual))
+                return String.format("token %d: expected %s, found %s", i, expected, actual);
+        }
+
+        if(!expectedErrors.equals(actualErrors))
+            return String.format("errors: expected %s, found %s", expectedErrors, actualErrors);
+        return null;
+    }
+
+    /**
+     * Parses the same input with ToorlaParser, lowered by AstBuilder, and with AstParser, and
+     * describes how they disagree, or returns null when both reject the input or both build the
+     * same tree.
+     */
+    public static String compareParsers(CharStream expectedInput, CharStream actualInput) {
+        var expected = parseWithAntlr(expectedInput);
+
+        Program actual;
+        try {
+            actual = new AstParser(silentScanner(actualInput, new NameTable())).parseProgram();
+        } catch (AstParser.SyntaxError e) {
+            return (expected == null) ? null : String.format("rejected at line %d:%d %s", e.getLine(), e.getColumn(), e.getMessage());
+        }
+
+        if(expected == null)
+            return "accepted a source with syntax errors";
+        if(!expected.equals(actual))
+            return String.format("trees differ: expected %s, found %s", abbreviate(expected), abbreviate(actual));
+        return null;
+    }
+
+    /**
+     * Builds the symbol tables of the source from its parse tree, with SymbolTableProgramPrinter,
+     * and from its AST, with SymbolTableAstWalker, and describes the first difference in the tables
+     * or the reported errors, or returns null when there is none or the source has syntax errors.
+     */
+    public static String compareAnalyses(Path source) throws IOException {
+        var expected = new CompilationContext(source);
+        var tree = parseTree(CharStreams.fromPath(source), expected.getNames());
+        if(tree == null)
+            return null;
+        var listener = new SymbolTableProgramPrinter(expected, new MethodSignatures(expected.getTypes()));
+        new IterativeParseTreeWalker().walk(listener, tree);
+
+        var actual = new CompilationContext(source);
+        var program = new AstBuilder().build(parseTree(CharStreams.fromPath(source), actual.getNames()));
+        new SymbolTableAstWalker(actual).walk(program);
+
+        var expectedErrors = expected.getDiagnostics().getAll().toString();
+        var actualErrors = actual.getDiagnostics().getAll().toString();
+        if(!expectedErrors.equals(actualErrors))
+            return String.format("errors: expected %s, found %s", expectedErrors, actualErrors);
+
+        var expectedTables = new StringBuilder();
+        expected.dumpSymbolTables(expectedTables);
+        var actualTables = new StringBuilder();
+        actual.dumpSymbolTables(actualTables);
+        var expectedLines = expectedTables.toString().lines().toList();
+        var actualLines = actualTables.toString().lines().toList();
+        for(int i = 0; i < Math.max(expectedLines.size(), actualLines.size()); i++) {
+            var expectedLine = (i < expectedLines.size()) ? expectedLines.get(i) : "nothing";
+            var actualLine = (i < actualLines.size()) ? actualLines.get(i) : "nothing";
+            if(!expectedLine.equals(actualLine))
+                return String.format("tables line %d: expected %s, found %s", i + 1, expectedLine, actualLine);
+        }
+        return null;
+    }
+
+    private static String abbreviate(Program program) {
+        var text = program.toString();
+        return (text.length() <= MAX_TREE_LENGTH) ? text : text.substring(0, MAX_TREE_LENGTH) + "...";
+    }
+
+    // Returns null when the input has syntax errors
+    private static Program parseWithAntlr(CharStream input) {
+        var tree = parseTree(input, new NameTable());
+        return (tree == null) ? null : new AstBuilder().build(tree);
+    }
+
+    // Returns null when the input has syntax errors
+    private static ToorlaParser.ProgramContext parseTree(CharStream input, NameTable names) {
+        List<String> errors = new ArrayList<>();
+        var parser = new ToorlaParser(new CommonTokenStream(silentScanner(input, names)));
+        parser.removeErrorListeners();
+        parser.addErrorListener(collectingListener(errors));
+        var tree = parser.program();
+        return errors.isEmpty() ? tree : null;
+    }
+
+    // Lexical errors make both parsers see the same tokens, so they are left out of the comparison
+    private static ToorlaScanner silentScanner(CharStream input, NameTable names) {
+        var scanner = new ToorlaScanner(input, names);
+        scanner.removeErrorListeners();
+        return scanner;
+    }
+
+    private static List<String> lex(TokenSource tokenSource) {
+        List<String> tokens = new ArrayList<>();
+        Token token;
+        do {
+            token = tokenSource.nextToken();
+            tokens.add(describe(token));
+        } while(token.getType() != Token.EOF);
+        return tokens;
+    }
+
+    private static String describe(Token token) {
+        return String.format("[%d..%d] type %d channel %d at %d:%d '%s'",
+                token.getStartIndex(), token.getStopIndex(), token.getType(), token.getChannel(),
+                token.getLine(), token.getCharPositionInLine(), token.getText());
+    }
+
+    private static BaseErrorListener collectingListener(List<String> errors) {
+        return new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+                errors.add(String.format("line %d:%d %s", line, charPositionInLine, msg));
+            }
+        };
+    }
+
+}
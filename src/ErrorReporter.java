@@ -1,45 +1,59 @@
 import java.util.List;
 
+/**
+ * Records the errors found while compiling a source as Diagnostic entries of the compilation's
+ * Diagnostics instead of printing them right away.
+ */
 public class ErrorReporter {
 
+    private final Diagnostics diagnostics;
+
+    public ErrorReporter() {
+        this(new Diagnostics());
+    }
+
+    public ErrorReporter(Diagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    public Diagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    public void reportSyntaxError(String message, int line, int column) {
+        report(DiagnosticCode.SYNTAX_ERROR, line, column, String.valueOf(message));
+    }
+
     public void reportClassRedefinitionError(String className, int line, int column) {
-        System.err.printf("Error 101: in line [%d:%d], class [%s] has been defined already\n", line, column, className);
+        report(DiagnosticCode.CLASS_REDEFINITION, line, column, className);
     }
 
     public void reportMethodRedefinitionError(String methodName, int line, int column) {
-        System.err.printf("Error 102: in line [%d:%d], method [%s] has been defined already\n", line, column, methodName);
+        report(DiagnosticCode.METHOD_REDEFINITION, line, column, methodName);
     }
 
     public void reportFieldRedefinitionError(String fieldName, int line, int column) {
-        System.err.printf("Error 103: in line [%d:%d], field [%s] has been defined already\n", line, column, fieldName);
+        report(DiagnosticCode.FIELD_REDEFINITION, line, column, fieldName);
     }
 
     public void reportLocalVariableRedefinitionError(String variableName, int line, int column) {
-        System.err.printf("Error 104: in line [%d:%d], var [%s] has been defined already\n", line, column, variableName);
+        report(DiagnosticCode.LOCAL_VARIABLE_REDEFINITION, line, column, variableName);
     }
 
     public void reportCircularInheritanceError(List<String> classes) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < classes.size(); i++) {
-            builder
-                    .append("[")
-                    .append(classes.get(i))
-                    .append("]");
-
-            if(i != classes.size() - 1) {
-                builder.append(" -> ");
-            }
-        }
-
-        System.err.printf("Error 410: Invalid inheritance %s\n", builder);
+        diagnostics.report(new Diagnostic(DiagnosticCode.CIRCULAR_INHERITANCE, Diagnostic.NO_POSITION, Diagnostic.NO_POSITION, classes));
     }
 
     public void reportIncompatibleReturnTypeError(String expectedReturnType, int line, int column) {
-        System.err.printf("Error 210: in line [%d:%d], return type of this method must be %s\n", line, column, expectedReturnType);
+        report(DiagnosticCode.INCOMPATIBLE_RETURN_TYPE, line, column, expectedReturnType);
     }
 
     public void reportAccessToPrivateMethodError(int line, int column) {
-        System.err.printf("Error 310: in line [%d:%d], private methods are not accessible outside of class\n", line, column);
+        diagnostics.report(new Diagnostic(DiagnosticCode.PRIVATE_METHOD_ACCESS, line, column, List.of()));
+    }
+
+    private void report(DiagnosticCode code, int line, int column, String arg) {
+        diagnostics.report(new Diagnostic(code, line, column, List.of(arg)));
     }
 
 }
@@ -0,0 +1,104 @@
+import ast.Expr;
+import gen.ToorlaParser;
+
+/**
+ * Recognizes the shapes of expressions the analyses care about by following the expression
+ * contexts down to an operand. Contexts of any other shape, including ones left incomplete by a
+ * syntax error, simply do not match. The same shapes are recognized in the AST, where any
+ * expression that is not an operator applied to other expressions counts as an operand.
+ */
+public class ExpressionShapes {
+
+    /**
+     * Returns the operand an expression starts with, unless the operand is reached through a
+     * unary operator, or null.
+     */
+    public static ToorlaParser.ExpressionOtherContext leadingOperand(ToorlaParser.ExpressionContext ctx) {
+        return descendLeft(ctx, false);
+    }
+
+    /**
+     * Returns the operand an expression starts with, which is the first operand a walk of the
+     * expression enters, or null.
+     */
+    public static ToorlaParser.ExpressionOtherContext firstOperand(ToorlaParser.ExpressionContext ctx) {
+        return descendLeft(ctx, true);
+    }
+
+    /**
+     * Returns the operand when the expression is nothing but a single operand, possibly in
+     * parentheses, or null.
+     */
+    public static ToorlaParser.ExpressionOtherContext singleOperand(ToorlaParser.ExpressionContext ctx) {
+        while(ctx instanceof ToorlaParser.ExpressionPrimaryContext primary && primary.o != null) {
+            if(primary.o.ee == null)
+                return primary.o;
+            ctx = primary.o.ee;
+        }
+        return null;
+    }
+
+    private static ToorlaParser.ExpressionOtherContext descendLeft(ToorlaParser.ExpressionContext ctx, boolean throughUnary) {
+        while(ctx != null) {
+            if(ctx instanceof ToorlaParser.ExpressionPrimaryContext primary) {
+                return primary.o;
+            } else if(ctx instanceof ToorlaParser.ExpressionMethodCallContext call) {
+                ctx = call.e;
+            } else if(ctx instanceof ToorlaParser.ExpressionFieldAccessContext access) {
+                ctx = access.e;
+            } else if(ctx instanceof ToorlaParser.ExpressionArrayAccessContext access) {
+                ctx = access.e;
+            } else if(ctx instanceof ToorlaParser.ExpressionUnaryContext unary && throughUnary) {
+                ctx = unary.u;
+            } else if(ctx instanceof ToorlaParser.ExpressionMultModContext binary) {
+                ctx = binary.l;
+            } else if(ctx instanceof ToorlaParser.ExpressionAddContext binary) {
+                ctx = binary.l;
+            } else if(ctx instanceof ToorlaParser.ExpressionCmpContext binary) {
+                ctx = binary.l;
+            } else if(ctx instanceof ToorlaParser.ExpressionEqContext binary) {
+                ctx = binary.l;
+            } else if(ctx instanceof ToorlaParser.ExpressionAndContext binary) {
+                ctx = binary.l;
+            } else if(ctx instanceof ToorlaParser.ExpressionOrContext binary) {
+                ctx = binary.l;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the operand an expression of the AST starts with, which is the first operand a walk
+     * of the expression reaches.
+     */
+    public static Expr firstOperand(Expr expression) {
+        while(true) {
+            if(expression instanceof Expr.MethodCall call) {
+                expression = call.receiver();
+            } else if(expression instanceof Expr.FieldAccess access) {
+                expression = access.receiver();
+            } else if(expression instanceof Expr.ArrayAccess access) {
+                expression = access.array();
+            } else if(expression instanceof Expr.Unary unary) {
+                expression = unary.operand();
+            } else if(expression instanceof Expr.Binary binary) {
+                expression = binary.left();
+            } else {
+                return expression;
+            }
+        }
+    }
+
+    /**
+     * Returns the expression of the AST without the parentheses around it.
+     */
+    public static Expr singleOperand(Expr expression) {
+        while(expression instanceof Expr.Parenthesized parenthesized) {
+            expression = parenthesized.expression();
+        }
+        return expression;
+    }
+
+}
@@ -1,94 +1,44 @@
+import ast.ClassDecl;
+import ast.Expr;
+import ast.TypeRef;
 import gen.ToorlaParser;
-import model.ParamFieldItem;
-import model.ParamModel;
+import model.Type;
+import model.TypeTable;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class Helper {
 
-    public static boolean isConstructorMethod(ToorlaParser.MethodDeclarationContext ctx) {
-        var classContext = (ToorlaParser.ClassDeclarationContext) ctx.parent;
-        var className = classContext.className.getText();
-        var methodName = ctx.methodName.getText();
-        return methodName.equals(className);
-    }
-
-    public static String getParameterList(ToorlaParser.MethodDeclarationContext ctx) {
-        var parameterNameList = ctx.ID().subList(1, ctx.ID().size());
-        var parameterTypeList = ctx.toorlaType().subList(0, ctx.toorlaType().size() - 1);
-
-        final int paramSize = parameterTypeList.size();
-
-        StringBuilder output = new StringBuilder();
-        for(int i = 0; i < paramSize; i++) {
-            output
-                    .append("type: ")
-                    .append(parameterTypeList.get(i).getText())
-                    .append(" / ")
-                    .append("name: ")
-                    .append(parameterNameList.get(i).getText());
-
-            if(i != (paramSize - 1))
-                output.append(", ");
-        }
-
-        return "parameter list: [" + output + "]";
-    }
-
-    public static ParamModel[] getParametersIndexed(ToorlaParser.MethodDeclarationContext ctx) {
-        var parameterNameList = ctx.ID().subList(1, ctx.ID().size());
-        var parameterTypeList = ctx.toorlaType().subList(0, ctx.toorlaType().size() - 1);
-
-        final int paramSize = parameterTypeList.size();
-
-        List<ParamModel> params = new ArrayList<>();
-
-        for(int i = 0; i < paramSize; i++) {
-            var name = parameterNameList.get(i).getText();
-            var type = parameterTypeList.get(i).getText();
-            var param = new ParamModel(name, type, i + 1);
-            params.add(param);
-        }
-
-        return params.toArray(new ParamModel[0]);
-    }
-
-    public static ParamFieldItem[] getParameters(ToorlaParser.MethodDeclarationContext ctx) {
-        var parameterNameList = ctx.ID().subList(1, ctx.ID().size());
-        var parameterTypeList = ctx.toorlaType().subList(0, ctx.toorlaType().size() - 1);
-
-        final int paramSize = parameterTypeList.size();
-
-        var list = new ArrayList<ParamFieldItem>();
-
-        for(int i = 0; i < paramSize; i++) {
-            var model = new ParamFieldItem(parameterNameList.get(i).getText(), parameterTypeList.get(i).getText());
-            list.add(model);
+    // One bit per rule index of the rules producing a nested block; the grammar has fewer than 64 rules
+    private static final long BLOCK_RULES = (1L << ToorlaParser.RULE_closedConditional)
+            | (1L << ToorlaParser.RULE_openConditional)
+            | (1L << ToorlaParser.RULE_statementClosedLoop)
+            | (1L << ToorlaParser.RULE_statementOpenLoop);
+
+    private static final int INT_TOKEN = getLiteralTokenType("'int'");
+    private static final int BOOL_TOKEN = getLiteralTokenType("'bool'");
+    private static final int STRING_TOKEN = getLiteralTokenType("'string'");
+
+    private static int getLiteralTokenType(String literal) {
+        Vocabulary vocabulary = ToorlaParser.VOCABULARY;
+        for(int type = 0; type <= vocabulary.getMaxTokenType(); type++) {
+            if(literal.equals(vocabulary.getLiteralName(type)))
+                return type;
         }
-
-        return list.toArray(new ParamFieldItem[0]);
-    }
-
-    public static boolean isMainMethod(ToorlaParser.MethodDeclarationContext ctx) {
-        var methodName = ctx.methodName.getText();
-        var returnType = ctx.t.getText();
-        var accessModifier = (ctx.access_modifier() == null) ? "public" : ctx.access_modifier().getText();
-
-        return "main".equals(methodName) && "int".equals(returnType) && "public".equals(accessModifier) && Helper.hasNotAnyParameter(ctx);
-    }
-    private static boolean hasNotAnyParameter(ToorlaParser.MethodDeclarationContext ctx) {
-        var parameterNameList = ctx.ID().subList(1, ctx.ID().size());
-        return parameterNameList.isEmpty();
+        throw new IllegalStateException("no token for " + literal);
     }
 
     public static boolean hasChildBlock(ParserRuleContext ctx) {
-        for(var child : ctx.children) {
-            if(isBlock(child)) {
+        for(int i = 0; i < ctx.getChildCount(); i++) {
+            if(isBlock(ctx.getChild(i))) {
                 return true;
             }
         }
@@ -97,22 +47,13 @@ public class Helper {
     }
 
     public static boolean isBlock(ParseTree ctx) {
-        final Class[] blockClasses = {
-            ToorlaParser.ClosedConditionalContext.class,
-            ToorlaParser.OpenConditionalContext.class,
-            ToorlaParser.StatementClosedLoopContext.class,
-            ToorlaParser.StatementOpenLoopContext.class
-        };
-
-        for(Class clazz : blockClasses) {
-            if(clazz.isInstance(ctx)) {
-                return true;
-            }
-        }
-
-        return false;
+        return ctx instanceof ParserRuleContext rule && (BLOCK_RULES & (1L << rule.getRuleIndex())) != 0;
     }
 
+    // The name given to a declaration the parser recovered without one, after the text of the
+    // tokens ANTLR conjures up for a missing ID
+    public static final String MISSING_NAME = "<missing ID>";
+
     public static String getParentClassName(ToorlaParser.ClassDeclarationContext ctx) {
         var parentClass = ctx.ID(1);
 
@@ -122,55 +63,129 @@ public class Helper {
         return parentClass.toString();
     }
 
+    public static String getParentClassName(ClassDecl classDecl) {
+        return (classDecl.parent() == null) ? "none" : classDecl.parent();
+    }
+
     public static boolean isEntryClass(ToorlaParser.ClassDeclarationContext ctx) {
         return ctx.parent instanceof ToorlaParser.EntryClassDeclarationContext;
     }
 
-    public static List<String> detectCircularInheritance(Map<String, String> classesToParents) {
-        var classes = classesToParents.keySet();
-        for(String className : classes) {
-            var hierarchy = getHierarchy(className, classesToParents);
-            var uniqueClassesOfHierarchy = new HashSet<>(hierarchy);
-            if(hierarchy.size() != uniqueClassesOfHierarchy.size())
-                return hierarchy;
+    /**
+     * Returns every inheritance cycle once, each as the hierarchy of the first class whose parents
+     * lead into it: the classes from that class up to where the hierarchy loops, followed by the
+     * class it loops back to.
+     */
+    public static List<List<String>> detectCircularInheritance(Map<String, String> classesToParents) {
+        // A class has at most one parent, so the parents followed from any class either run out or
+        // end in a cycle. Each class is stamped with the walk that reached it first and is never
+        // followed again, which keeps the whole check linear in the number of classes.
+        Map<String, Integer> walkOfClass = new HashMap<>();
+        List<List<String>> cycles = new ArrayList<>();
+
+        int walk = 0;
+        for(String className : classesToParents.keySet()) {
+            walk++;
+
+            List<String> hierarchy = new ArrayList<>();
+            var current = className;
+            while(current != null && !walkOfClass.containsKey(current)) {
+                walkOfClass.put(current, walk);
+                hierarchy.add(current);
+                current = classesToParents.get(current);
+            }
+
+            // Running into a class of the same walk means the walk closed a cycle of its own
+            if(current != null && walkOfClass.get(current) == walk) {
+                hierarchy.add(current); // To show that the hierarchy has a loop
+                cycles.add(hierarchy);
+            }
         }
-        return null;
-    }
 
-    private static List<String> getHierarchy(String className, Map<String, String> classesToParents) {
-        List<String> hierarchy = new ArrayList<>();
+        return cycles;
+    }
 
-        var parent = className;
+    public static Type getType(ToorlaParser.ToorlaTypeContext ctx, TypeTable types) {
+        if(ctx == null)
+            return types.getUnknown();
+        if(ctx.st == null || hasErrorNode(ctx))
+            return types.getMalformedType(ctx.getText());
 
-        hierarchy.add(parent);
+        var type = getType(ctx.st, types);
+        // The brackets of an array type follow the element type
+        return (ctx.getChildCount() > 1) ? types.getArrayType(type) : type;
+    }
 
-        while(true) {
-            parent = classesToParents.get(parent);
+    public static Type getType(ToorlaParser.SingleTypeContext ctx, TypeTable types) {
+        // A context the parser recovered holds the tokens it skipped as well, or no token at all
+        if(ctx.getChildCount() != 1 || !(ctx.getChild(0) instanceof TerminalNode terminal) || terminal instanceof ErrorNode)
+            return types.getMalformedType(ctx.getText());
+
+        int tokenType = terminal.getSymbol().getType();
+        if(tokenType == INT_TOKEN) {
+            return types.getInt();
+        } else if(tokenType == BOOL_TOKEN) {
+            return types.getBool();
+        } else if(tokenType == STRING_TOKEN) {
+            return types.getString();
+        }
+        return types.getClassType(terminal.getText());
+    }
 
-            if(hierarchy.contains(parent)) {
-                hierarchy.add(parent); // To show that the hierarchy has a loop
-                break;
-            }
+    public static Type getType(TypeRef typeRef, TypeTable types) {
+        var type = getSingleType(typeRef.name(), types);
+        return typeRef.isArray() ? types.getArrayType(type) : type;
+    }
 
-            if(parent == null || parent.equals("none"))
-                break;
+    private static Type getSingleType(String name, TypeTable types) {
+        return switch(name) {
+            case "int" -> types.getInt();
+            case "bool" -> types.getBool();
+            case "string" -> types.getString();
+            default -> types.getClassType(name);
+        };
+    }
 
-            hierarchy.add(parent);
+    private static boolean hasErrorNode(ParserRuleContext ctx) {
+        for(int i = 0; i < ctx.getChildCount(); i++) {
+            if(ctx.getChild(i) instanceof ErrorNode) {
+                return true;
+            }
         }
-        return hierarchy;
+
+        return false;
     }
 
-    public static String extractType(ToorlaParser.ExpressionOtherContext ctx) {
+    public static Type extractType(ToorlaParser.ExpressionOtherContext ctx, TypeTable types) {
         if(ctx.n != null) {
-            return "int";
+            return types.getInt();
         } else if(ctx.s != null) {
-            return "string";
+            return types.getString();
         } else if(ctx.st != null) {
-            return ctx.st.getText() + "[]";
+            return types.getArrayType(getType(ctx.st, types));
         } else if(ctx.i != null) {
-            return ctx.i.getText();
+            return types.getClassType(ctx.i.getText());
         } else if(ctx.trueModifier != null || ctx.falseModifier != null) {
-            return "boolean";
+            return types.getBooleanLiteral();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the type of an operand of the AST, like extractType does for the operands of a parse
+     * tree, or null when the type is not evident.
+     */
+    public static Type extractType(Expr operand, TypeTable types) {
+        if(operand instanceof Expr.IntLiteral) {
+            return types.getInt();
+        } else if(operand instanceof Expr.StringLiteral) {
+            return types.getString();
+        } else if(operand instanceof Expr.NewArray newArray) {
+            return types.getArrayType(getType(newArray.elementType(), types));
+        } else if(operand instanceof Expr.NewObject newObject) {
+            return types.getClassType(newObject.className());
+        } else if(operand instanceof Expr.BoolLiteral) {
+            return types.getBooleanLiteral();
         }
         return null;
     }
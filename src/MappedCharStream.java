@@ -0,0 +1,301 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A CharStream reading a UTF-8 source file through a memory mapping. Code points are decoded one
+ * at a time as the lexer reads them instead of into an array up front, and text is only decoded
+ * when somebody asks for it, so the heap does not hold a copy of the source.
+ *
+ * Indexes are code point indexes like those of the streams CharStreams creates, and malformed
+ * input reads as U+FFFD the same way, so tokens get the same positions and text either way.
+ */
+public class MappedCharStream implements CharStream {
+
+    // The byte offset of every CHECKPOINT_INTERVAL-th code point is kept to find the bytes of an
+    // index without decoding the source from its start
+    private static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+    private final ByteBuffer bytes;
+    private final String sourceName;
+    private final int size;
+    private final int[] checkpoints;
+    // Code point indexes and byte offsets are the same in ASCII sources
+    private final boolean isAscii;
+
+    private int index = 0;
+    private int position = 0;
+
+    // The last marked index, where the lexer started its current token, and its byte offset
+    private int markedIndex = 0;
+    private int markedPosition = 0;
+
+    public static MappedCharStream open(Path source) throws IOException {
+        try(var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE)
+                throw new IOException(source + " is too large to map");
+
+            // The mapping stays valid after the channel is closed
+            var bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedCharStream(bytes, source.toString());
+        }
+    }
+
+    public MappedCharStream(ByteBuffer bytes, String sourceName) {
+        this.bytes = bytes;
+        this.sourceName = sourceName;
+
+        // One pass over the bytes counts the code points without decoding them
+        int limit = bytes.limit();
+        int[] checkpoints = new int[limit / CHECKPOINT_INTERVAL + 1];
+        boolean isAscii = true;
+        int count = 0;
+        int offset = 0;
+        while(offset < limit) {
+            if(count % CHECKPOINT_INTERVAL == 0) {
+                checkpoints[count / CHECKPOINT_INTERVAL] = offset;
+            }
+            if(bytes.get(offset) >= 0) {
+                offset++;
+            } else {
+                offset += sequenceLength(offset);
+                isAscii = false;
+            }
+            count++;
+        }
+
+        this.size = count;
+        this.checkpoints = checkpoints;
+        this.isAscii = isAscii;
+    }
+
+    @Override
+    public void consume() {
+        if(index >= size)
+            throw new IllegalStateException("cannot consume EOF");
+
+        position += (bytes.get(position) >= 0) ? 1 : sequenceLength(position);
+        index++;
+    }
+
+    @Override
+    public int LA(int i) {
+        if(i == 0)
+            return 0;
+
+        if(i < 0) {
+            int target = index + i;
+            return (target < 0) ? IntStream.EOF : codePointAt(offsetOf(target));
+        }
+
+        int offset = position;
+        for(int k = 1; k < i && offset < bytes.limit(); k++) {
+            offset += sequenceLength(offset);
+        }
+        return (offset < bytes.limit()) ? codePointAt(offset) : IntStream.EOF;
+    }
+
+    /**
+     * Remembers the current index so that the text of the token starting here is found without a
+     * search. Marks need not be released.
+     */
+    @Override
+    public int mark() {
+        markedIndex = index;
+        markedPosition = position;
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void seek(int index) {
+        index = Math.max(0, Math.min(index, size));
+        this.position = offsetOf(index);
+        this.index = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * Decodes the code points from interval.a through interval.b, clamped to the end of the input
+     * like CodePointCharStream does.
+     */
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if(length <= 0)
+            return "";
+
+        return decode(offsetOf(start), offsetOf(start + length));
+    }
+
+    /**
+     * Decodes the bytes from start up to end, which have to be the byte offsets of code points.
+     */
+    String decode(int start, int end) {
+        if(isAscii(start, end)) {
+            byte[] text = new byte[end - start];
+            bytes.get(start, text);
+            return new String(text, StandardCharsets.ISO_8859_1);
+        }
+
+        StringBuilder text = new StringBuilder(end - start);
+        for(int offset = start; offset < end; offset += sequenceLength(offset)) {
+            text.appendCodePoint(codePointAt(offset));
+        }
+        return text.toString();
+    }
+
+    boolean isAscii(int start, int end) {
+        if(isAscii)
+            return true;
+
+        for(int offset = start; offset < end; offset++) {
+            if(bytes.get(offset) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    byte byteAt(int offset) {
+        return bytes.get(offset);
+    }
+
+    /**
+     * Compares the bytes of two ranges of the same length, in this stream and in another.
+     */
+    boolean bytesEqual(int start, MappedCharStream other, int otherStart, int length) {
+        for(int i = 0; i < length; i++) {
+            if(bytes.get(start + i) != other.bytes.get(otherStart + i))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+
+    /**
+     * Returns the byte offset of the code point at the given index, or the length of the input
+     * for the index past its end.
+     */
+    int offsetOf(int index) {
+        if(index == this.index)
+            return position;
+        if(isAscii)
+            return index;
+        if(index >= size)
+            return bytes.limit();
+
+        // Walk from the closest known offset before the index
+        int from = index - index % CHECKPOINT_INTERVAL;
+        int offset = checkpoints[index / CHECKPOINT_INTERVAL];
+        if(markedIndex <= index && markedIndex > from) {
+            from = markedIndex;
+            offset = markedPosition;
+        }
+        for(int i = from; i < index; i++) {
+            offset += sequenceLength(offset);
+        }
+        return offset;
+    }
+
+    private int codePointAt(int offset) {
+        int lead = bytes.get(offset) & 0xFF;
+        if(lead < 0x80)
+            return lead;
+
+        // Bytes that cannot start a sequence, and sequences cut short, are malformed
+        int expected = expectedLength(lead);
+        int length = sequenceLength(offset);
+        if(expected == 1 || length != expected)
+            return REPLACEMENT_CHARACTER;
+
+        int codePoint = lead & (0x7F >> length);
+        for(int i = 1; i < length; i++) {
+            codePoint = (codePoint << 6) | (bytes.get(offset + i) & 0x3F);
+        }
+        // An encoded surrogate is malformed as a whole, like it is for the JDK's decoder. The check
+        // is on the whole code point, since a char cast would also catch U+1D800 and the like.
+        boolean isSurrogate = codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+        return isSurrogate ? REPLACEMENT_CHARACTER : codePoint;
+    }
+
+    private static int expectedLength(int lead) {
+        if(lead >= 0xC2 && lead <= 0xDF)
+            return 2;
+        if(lead >= 0xE0 && lead <= 0xEF)
+            return 3;
+        if(lead >= 0xF0 && lead <= 0xF4)
+            return 4;
+        return 1;
+    }
+
+    /**
+     * Returns how many bytes the code point at the given offset takes. A malformed sequence takes
+     * as many bytes as the JDK's UTF-8 decoder replaces with a single U+FFFD.
+     */
+    private int sequenceLength(int offset) {
+        int lead = bytes.get(offset) & 0xFF;
+        int expected = expectedLength(lead);
+        if(lead < 0x80 || expected == 1)
+            return 1;
+
+        int available = Math.min(expected, bytes.limit() - offset);
+        for(int i = 1; i < available; i++) {
+            int next = bytes.get(offset + i) & 0xFF;
+            if(!isValidContinuation(lead, i, next))
+                return i;
+        }
+        return available;
+    }
+
+    // The second byte of some sequences has a narrower range, which rules out overlong encodings
+    // and code points past U+10FFFF
+    private static boolean isValidContinuation(int lead, int position, int value) {
+        if(position == 1) {
+            switch(lead) {
+                case 0xE0 -> {
+                    return value >= 0xA0 && value <= 0xBF;
+                }
+                case 0xF0 -> {
+                    return value >= 0x90 && value <= 0xBF;
+                }
+                case 0xF4 -> {
+                    return value >= 0x80 && value <= 0x8F;
+                }
+            }
+        }
+        return (value & 0xC0) == 0x80;
+    }
+
+}
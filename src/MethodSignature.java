@@ -0,0 +1,145 @@
+import ast.MethodDecl;
+import ast.Param;
+import gen.ToorlaParser;
+import model.ParamFieldItem;
+import model.ParamModel;
+import model.Type;
+import model.TypeTable;
+
+import java.util.List;
+
+/**
+ * Everything a method declaration declares about the method, extracted from the declaration once
+ * and shared by every analysis that looks at it. See MethodSignatures.
+ */
+public class MethodSignature {
+
+    private static final String DEFAULT_ACCESS_MODIFIER = "public";
+
+    private final String name;
+    private final String accessModifier;
+    private final Type returnType;
+    private final boolean isConstructor;
+    private final List<String> parameterNames;
+    private final List<Type> parameterTypes;
+
+    private final ParamModel[] indexedParameters;
+    private final ParamFieldItem[] parameterItems;
+
+    public MethodSignature(ToorlaParser.MethodDeclarationContext ctx, TypeTable types) {
+        this.name = (ctx.methodName == null) ? Helper.MISSING_NAME : ctx.methodName.getText();
+        this.accessModifier = (ctx.access_modifier() == null) ? DEFAULT_ACCESS_MODIFIER : ctx.access_modifier().getText();
+        this.returnType = Helper.getType(ctx.t, types);
+
+        var classContext = (ToorlaParser.ClassDeclarationContext) ctx.parent;
+        this.isConstructor = classContext.className != null && name.equals(classContext.className.getText());
+
+        // The first ID is the name of the method and the last type is its return type. A declaration
+        // the parser recovered may lack the name or the return type, or have fewer names than types.
+        var ids = ctx.ID();
+        int firstParameter = (ctx.methodName == null) ? 0 : 1;
+        var typeContexts = ctx.toorlaType();
+        final int paramSize = Math.min(typeContexts.size() - ((ctx.t == null) ? 0 : 1), ids.size() - firstParameter);
+
+        var names = new String[paramSize];
+        var paramTypes = new Type[paramSize];
+        this.indexedParameters = new ParamModel[paramSize];
+        this.parameterItems = new ParamFieldItem[paramSize];
+        for(int i = 0; i < paramSize; i++) {
+            names[i] = ids.get(i + firstParameter).getText();
+            paramTypes[i] = Helper.getType(typeContexts.get(i), types);
+            indexedParameters[i] = new ParamModel(names[i], paramTypes[i], i + 1);
+            parameterItems[i] = new ParamFieldItem(names[i], paramTypes[i]);
+        }
+        this.parameterNames = List.of(names);
+        this.parameterTypes = List.of(paramTypes);
+    }
+
+    public MethodSignature(MethodDecl method, String className, TypeTable types) {
+        this.name = method.name();
+        this.accessModifier = (method.accessModifier() == null) ? DEFAULT_ACCESS_MODIFIER : method.accessModifier();
+        this.returnType = Helper.getType(method.returnType(), types);
+        this.isConstructor = name.equals(className);
+
+        var params = method.params();
+        var names = new String[params.size()];
+        var paramTypes = new Type[params.size()];
+        this.indexedParameters = new ParamModel[params.size()];
+        this.parameterItems = new ParamFieldItem[params.size()];
+        for(int i = 0; i < params.size(); i++) {
+            Param param = params.get(i);
+            names[i] = param.name();
+            paramTypes[i] = Helper.getType(param.type(), types);
+            indexedParameters[i] = new ParamModel(names[i], paramTypes[i], i + 1);
+            parameterItems[i] = new ParamFieldItem(names[i], paramTypes[i]);
+        }
+        this.parameterNames = List.of(names);
+        this.parameterTypes = List.of(paramTypes);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAccessModifier() {
+        return accessModifier;
+    }
+
+    public boolean isPrivate() {
+        return "private".equals(accessModifier);
+    }
+
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    public boolean isConstructor() {
+        return isConstructor;
+    }
+
+    public boolean isMainMethod(TypeTable types) {
+        return "main".equals(name) && returnType == types.getInt() && DEFAULT_ACCESS_MODIFIER.equals(accessModifier) && parameterNames.isEmpty();
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public List<Type> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Returns the parameters numbered from 1, as held by method and constructor items. The array
+     * is shared and must not be modified.
+     */
+    public ParamModel[] getIndexedParameters() {
+        return indexedParameters;
+    }
+
+    /**
+     * Returns the items the parameters are defined with in the scope of the method. The array is
+     * shared and must not be modified.
+     */
+    public ParamFieldItem[] getParameterItems() {
+        return parameterItems;
+    }
+
+    public String getParameterList() {
+        StringBuilder output = new StringBuilder();
+        for(int i = 0; i < parameterNames.size(); i++) {
+            output
+                    .append("type: ")
+                    .append(parameterTypes.get(i))
+                    .append(" / ")
+                    .append("name: ")
+                    .append(parameterNames.get(i));
+
+            if(i != (parameterNames.size() - 1))
+                output.append(", ");
+        }
+
+        return "parameter list: [" + output + "]";
+    }
+
+}
@@ -0,0 +1,29 @@
+import gen.ToorlaParser;
+import model.TypeTable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The signatures of the methods of one parse tree, built the first time a declaration is asked
+ * for, so analyses running over the same tree share them. They are keyed by the nodes of the tree
+ * and keep it reachable, so they are made for one walk and dropped with the tree.
+ */
+public class MethodSignatures {
+
+    private final TypeTable types;
+    private final Map<ToorlaParser.MethodDeclarationContext, MethodSignature> signatures = new IdentityHashMap<>();
+
+    public MethodSignatures(TypeTable types) {
+        this.types = types;
+    }
+
+    public TypeTable getTypes() {
+        return types;
+    }
+
+    public MethodSignature get(ToorlaParser.MethodDeclarationContext ctx) {
+        return signatures.computeIfAbsent(ctx, declaration -> new MethodSignature(declaration, types));
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Keeps one String per distinct name of a compilation. The scanner interns the text of every
+ * identifier it reads, so each occurrence of a name in the parse tree, and everything the analyses
+ * build from it, holds on to the same String. Names of one compilation can then be compared by
+ * identity.
+ *
+ * A name is looked up by its TokenText without decoding it, so only the first occurrence of a
+ * name creates a String. The table belongs to a single compilation and is not thread-safe.
+ */
+public class NameTable {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Open addressing with linear probing, kept at most half full
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Returns the String of the given name, which is created from it the first time the name is
+     * interned.
+     */
+    public String intern(CharSequence name) {
+        int hash = hashOf(name);
+        int mask = names.length - 1;
+        int slot = spread(hash) & mask;
+        for(var existing = names[slot]; existing != null; existing = names[slot]) {
+            if(existing.hashCode() == hash && existing.contentEquals(name))
+                return existing;
+            slot = (slot + 1) & mask;
+        }
+
+        var interned = name.toString();
+        names[slot] = interned;
+        if(++size * 2 > names.length) {
+            grow();
+        }
+        return interned;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        var old = names;
+        names = new String[old.length * 2];
+        int mask = names.length - 1;
+        for(String name : old) {
+            if(name == null)
+                continue;
+
+            int slot = spread(name.hashCode()) & mask;
+            while(names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = name;
+        }
+    }
+
+    // The hash of the String with the same characters, without creating that String
+    private static int hashOf(CharSequence name) {
+        if(name instanceof String || name instanceof TokenText)
+            return name.hashCode();
+
+        int hash = 0;
+        for(int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,23 @@
+/**
+ * The kinds of names a scope holds. Names of different kinds never clash with each other, so a
+ * class and a field may share a name within the same scope.
+ */
+public enum Namespace {
+
+    CLASS("class_"),
+    FIELD("field_"),
+    METHOD("method_"),
+    CONSTRUCTOR("constructor_");
+
+    // Prefix of the keys the symbol table dump shows for this kind of name
+    private final String keyPrefix;
+
+    Namespace(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+}
@@ -1,9 +1,41 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prints indented lines to a buffered writer. Output only reaches the underlying stream when the
+ * buffer is full or flush is called.
+ *
+ * Formats are printed like String.format(format.indent(indentation), args). The common case of a
+ * format with only %s, %n and %% specifiers is written directly, with a precomputed indentation
+ * prefix, instead of indenting and formatting a new string for every line.
+ */
 public class Printer {
 
     private static final int INDENTATION_UNIT = 4;
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+
+    // The prefix of every indentation level used so far, indexed by level
+    private final List<String> prefixes = new ArrayList<>(List.of(""));
+
     private int indentation = 0;
 
+    public Printer() {
+        this(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+    }
+
+    public Printer(Writer out) {
+        this.out = new BufferedWriter(out, BUFFER_SIZE);
+    }
+
     public void increaseIndentation() {
         indentation += INDENTATION_UNIT;
     }
@@ -13,11 +45,105 @@ public class Printer {
     }
 
     public void print(String format, Object... args) {
-        System.out.printf(format.indent(indentation), args);
+        try {
+            if(indentation < 0 || !isDirectlyWritable(format, args.length)) {
+                out.write(String.format(format.indent(indentation), args));
+                return;
+            }
+
+            writeIndented(format, args);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public void println(String format, Object... args) {
         print(format + "\n", args);
     }
 
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeIndented(String format, Object[] args) throws IOException {
+        var prefix = getPrefix();
+        int argIndex = 0;
+        boolean atLineStart = true;
+
+        // Runs of plain text are written in one call; the run ends at line breaks and specifiers
+        int runStart = 0;
+        for(int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if(c != '\n' && c != '\r' && c != '%') {
+                if(atLineStart) {
+                    out.write(prefix);
+                    atLineStart = false;
+                }
+                continue;
+            }
+
+            out.write(format, runStart, i - runStart);
+            if(c == '%') {
+                if(atLineStart) {
+                    out.write(prefix);
+                    atLineStart = false;
+                }
+                char specifier = format.charAt(++i);
+                if(specifier == 's') {
+                    out.write(String.valueOf(args[argIndex++]));
+                } else if(specifier == 'n') {
+                    // Like String.format, the separator is not followed by an indentation
+                    out.write(System.lineSeparator());
+                } else {
+                    out.write('%');
+                }
+            } else {
+                // Every line, blank ones included, is indented and ends with \n, like String.indent
+                if(c == '\r' && i + 1 < format.length() && format.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                if(atLineStart) {
+                    out.write(prefix);
+                }
+                out.write('\n');
+                atLineStart = true;
+            }
+            runStart = i + 1;
+        }
+
+        out.write(format, runStart, format.length() - runStart);
+        if(!atLineStart) {
+            out.write('\n');
+        }
+    }
+
+    private String getPrefix() {
+        int level = indentation / INDENTATION_UNIT;
+        while(prefixes.size() <= level) {
+            prefixes.add(" ".repeat(prefixes.size() * INDENTATION_UNIT));
+        }
+        return prefixes.get(level);
+    }
+
+    // Whether the format only uses the specifiers writeIndented handles, with an argument for each
+    private static boolean isDirectlyWritable(String format, int argCount) {
+        int stringCount = 0;
+        for(int i = format.indexOf('%'); i >= 0; i = format.indexOf('%', i + 1)) {
+            if(i + 1 == format.length())
+                return false;
+
+            char specifier = format.charAt(++i);
+            if(specifier == 's') {
+                stringCount++;
+            } else if(specifier != 'n' && specifier != '%') {
+                return false;
+            }
+        }
+        return stringCount <= argCount;
+    }
+
 }
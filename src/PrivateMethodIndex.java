@@ -0,0 +1,60 @@
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index from method names to the classes declaring a method of that name, split by whether the
+ * declaration is private. Checking a call site takes a few hash lookups per class on the
+ * receiver's inheritance chain instead of a scan over every class.
+ */
+public class PrivateMethodIndex {
+
+    private final Map<String, Set<String>> privateDeclarers = new HashMap<>();
+    private final Map<String, Set<String>> otherDeclarers = new HashMap<>();
+
+    private final Map<String, String> classesToParents;
+
+    public PrivateMethodIndex(Map<String, String> classesToParents) {
+        this.classesToParents = classesToParents;
+    }
+
+    public void addMethod(String className, String methodName, boolean isPrivate) {
+        var declarers = isPrivate ? privateDeclarers : otherDeclarers;
+        declarers.computeIfAbsent(methodName, name -> new HashSet<>()).add(className);
+    }
+
+    /**
+     * Whether calling methodName on an object of class receiverClass from inside callingClass
+     * reaches a private method of another class. receiverClass is null when the static type of the
+     * receiver is not known; such a call is only rejected when no class declares an accessible
+     * method of that name.
+     */
+    public boolean isInaccessible(String methodName, String receiverClass, String callingClass) {
+        var privateIn = privateDeclarers.get(methodName);
+        if(privateIn == null)
+            return false;
+
+        var otherIn = otherDeclarers.getOrDefault(methodName, Set.of());
+
+        if(receiverClass == null) {
+            if(!otherIn.isEmpty())
+                return false;
+            return privateIn.size() > 1 || !privateIn.contains(callingClass);
+        }
+
+        // The first class up the chain that declares the method decides. The number of steps is
+        // bounded because the hierarchy may contain cycles.
+        var current = receiverClass;
+        for(int step = 0; current != null && step <= classesToParents.size(); step++) {
+            if(otherIn.contains(current))
+                return false;
+            if(privateIn.contains(current))
+                return !current.equals(callingClass);
+            current = classesToParents.get(current);
+        }
+
+        return false;
+    }
+
+}
@@ -1,14 +1,34 @@
 import gen.ToorlaListener;
 import gen.ToorlaParser;
+import model.TypeTable;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
+import java.util.Arrays;
+
 public class ProgramPrinter implements ToorlaListener {
 
     private final Printer printer = new Printer();
 
+    private final MethodSignatures methodSignatures;
+
+    private boolean[] nestedBlocks = new boolean[64];
+    private int nestedBlockDepth = 0;
+
+    public ProgramPrinter() {
+        this(new MethodSignatures(new TypeTable()));
+    }
+
+    /**
+     * Creates a printer sharing the method signatures of the tree with the other analyses of the
+     * same compilation.
+     */
+    public ProgramPrinter(MethodSignatures methodSignatures) {
+        this.methodSignatures = methodSignatures;
+    }
+
     private void increaseIndentation() {
         printer.increaseIndentation();
     }
@@ -35,6 +55,7 @@ public class ProgramPrinter implements ToorlaListener {
     public void exitProgram(ToorlaParser.ProgramContext ctx) {
         decreaseIndentation();
         println("}");
+        printer.flush();
     }
 
     @Override
@@ -82,16 +103,16 @@ public class ProgramPrinter implements ToorlaListener {
 
     @Override
     public void enterMethodDeclaration(ToorlaParser.MethodDeclarationContext ctx) {
-        if(Helper.isMainMethod(ctx)) {
+        var signature = methodSignatures.get(ctx);
+        if(signature.isMainMethod(methodSignatures.getTypes())) {
             println("main method / type: int {");
         } else {
-            var methodType = Helper.isConstructorMethod(ctx) ? "constructor" : "method";
-            var accessModifier = (ctx.access_modifier() == null) ? "public" : ctx.access_modifier().getText();
-            println("class %s: %s / return type: %s/ type: %s{", methodType, ctx.methodName.getText(), ctx.t.getText(), accessModifier);
+            var methodType = signature.isConstructor() ? "constructor" : "method";
+            println("class %s: %s / return type: %s/ type: %s{", methodType, signature.getName(), signature.getReturnType(), signature.getAccessModifier());
         }
 
         increaseIndentation();
-        print(Helper.getParameterList(ctx));
+        print(signature.getParameterList());
     }
 
     @Override
@@ -111,19 +132,33 @@ public class ProgramPrinter implements ToorlaListener {
     }
 
     private void startProducingNestedBlock(ParserRuleContext ctx) {
-        if(Helper.hasChildBlock(ctx)) {
+        var hasChildBlock = Helper.hasChildBlock(ctx);
+        pushNestedBlock(hasChildBlock);
+        if(hasChildBlock) {
             print("nested {");
             increaseIndentation();
         }
     }
 
     private void endProducingNestedBlock(ParserRuleContext ctx) {
-        if(Helper.hasChildBlock(ctx)) {
+        if(popNestedBlock()) {
             decreaseIndentation();
             print("}");
         }
     }
 
+    // Whether each enclosing block-producing context has a block child, decided once when it is entered
+    private void pushNestedBlock(boolean hasChildBlock) {
+        if(nestedBlockDepth == nestedBlocks.length) {
+            nestedBlocks = Arrays.copyOf(nestedBlocks, nestedBlocks.length * 2);
+        }
+        nestedBlocks[nestedBlockDepth++] = hasChildBlock;
+    }
+
+    private boolean popNestedBlock() {
+        return nestedBlocks[--nestedBlockDepth];
+    }
+
     @Override
     public void enterClosedConditional(ToorlaParser.ClosedConditionalContext ctx) {
         startProducingNestedBlock(ctx);
@@ -251,16 +286,15 @@ public class ProgramPrinter implements ToorlaListener {
 
     @Override
     public void enterStatementAssignment(ToorlaParser.StatementAssignmentContext ctx) {
-        try {
-            ToorlaParser.ExpressionOtherContext expression = ctx.right.e.a.e.c.a.m.u.m.o;
-            if(expression.st != null) {
-                var type = expression.st.getText() + "[]";
-                println("field: %s / type: %s", ctx.left.getText(), type);
-            } else if(expression.i != null) {
-                println("field: %s / type: %s", ctx.left.getText(), expression.i.getText());
-            }
-        } catch (NullPointerException ignored) {
-
+        ToorlaParser.ExpressionOtherContext expression = ExpressionShapes.leadingOperand(ctx.right);
+        if(expression == null)
+            return;
+
+        if(expression.st != null) {
+            var type = expression.st.getText() + "[]";
+            println("field: %s / type: %s", ctx.left.getText(), type);
+        } else if(expression.i != null) {
+            println("field: %s / type: %s", ctx.left.getText(), expression.i.getText());
         }
     }
 
@@ -290,92 +324,52 @@ public class ProgramPrinter implements ToorlaListener {
     }
 
     @Override
-    public void enterExpression(ToorlaParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpression(ToorlaParser.ExpressionContext ctx) {
+    public void enterExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
+    public void exitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
+    public void enterExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) {
+    public void exitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) {
+    public void enterExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
+    public void exitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
+    public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
+    public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) {
+    public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) {
+    public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
 
     }
 
@@ -390,62 +384,52 @@ public class ProgramPrinter implements ToorlaListener {
     }
 
     @Override
-    public void enterExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
+    public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
+    public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) {
+    public void enterExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) {
+    public void exitExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
+    public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
+    public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) {
+    public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) {
+    public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) {
+    public void enterExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) {
+    public void exitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) {
 
     }
 
@@ -0,0 +1,31 @@
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * State shared by all scopes of one compilation: the scope of every class, for resolving names
+ * through inheritance.
+ */
+public class ScopeRegistry {
+
+    private final Map<String, SymbolTable> classScopes = new HashMap<>();
+
+    /**
+     * Registers the scope of a class. A class that is defined again keeps its first scope.
+     */
+    public void registerClassScope(String className, SymbolTable scope) {
+        classScopes.putIfAbsent(className, scope);
+    }
+
+    public SymbolTable getClassScope(String className) {
+        return classScopes.get(className);
+    }
+
+    /**
+     * Returns how many classes have a scope. It only grows, so it also tells whether a class scope
+     * was registered since it was last asked for.
+     */
+    public int getClassCount() {
+        return classScopes.size();
+    }
+
+}
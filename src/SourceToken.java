@@ -0,0 +1,50 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * A token read from a MappedCharStream. Its text is a TokenText view of the source, so asking for
+ * the text more than once does not decode it again, and tokens nobody asks do not decode it at
+ * all. Text set explicitly with setText still takes precedence, like it does for CommonToken.
+ */
+public class SourceToken extends CommonToken {
+
+    private static final long serialVersionUID = 1L;
+
+    // Byte offsets of the text in the source
+    private final int byteStart;
+    private final int byteEnd;
+
+    private transient TokenText textView;
+
+    public SourceToken(Pair<TokenSource, CharStream> source, int type, int channel, int start, int stop, int byteStart, int byteEnd) {
+        super(source, type, channel, start, stop);
+        this.byteStart = byteStart;
+        this.byteEnd = byteEnd;
+    }
+
+    public TokenText getTextView() {
+        if(textView == null) {
+            textView = new TokenText((MappedCharStream) getInputStream(), byteStart, byteEnd);
+        }
+        return textView;
+    }
+
+    /**
+     * Sets the text of the token, which then no longer needs its view of the source.
+     */
+    @Override
+    public void setText(String text) {
+        super.setText(text);
+        textView = null;
+    }
+
+    @Override
+    public String getText() {
+        if(text != null)
+            return text;
+        return getTextView().toString();
+    }
+
+}
@@ -0,0 +1,37 @@
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Creates SourceTokens for the tokens read from a MappedCharStream, and leaves every other token,
+ * and the EOF token, to CommonTokenFactory.
+ *
+ * A token has to be created right after it was matched, while the stream still knows where the
+ * token started, so that finding its bytes does not search the source.
+ */
+public class SourceTokenFactory implements TokenFactory<CommonToken> {
+
+    public static final SourceTokenFactory DEFAULT = new SourceTokenFactory();
+
+    @Override
+    public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start, int stop, int line, int charPositionInLine) {
+        // The EOF token has no text in the source, CommonToken shows it as <EOF>
+        if(text != null || type == Token.EOF || !(source.b instanceof MappedCharStream input))
+            return CommonTokenFactory.DEFAULT.create(source, type, text, channel, start, stop, line, charPositionInLine);
+
+        var token = new SourceToken(source, type, channel, start, stop, input.offsetOf(start), input.offsetOf(stop + 1));
+        token.setLine(line);
+        token.setCharPositionInLine(charPositionInLine);
+        return token;
+    }
+
+    @Override
+    public CommonToken create(int type, String text) {
+        return CommonTokenFactory.DEFAULT.create(type, text);
+    }
+
+}
@@ -0,0 +1,214 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.stream.Stream;
+
+/**
+ * Compiles a set of sources once and then keeps recompiling the .trl files that change on disk.
+ * The files changed by the events of one poll are compiled together, on the workers of the batch
+ * compiler. A file whose content is still the one it was last compiled from is not compiled again,
+ * so saving a file unchanged or losing events costs no more than reading the files.
+ */
+public class SourceWatcher {
+
+    private static final String SOURCE_FILE_EXTENSION = ".trl";
+
+    // Editors usually write a file in several steps, so events arriving this close are merged
+    private static final long SETTLE_MILLIS = 50;
+
+    private final BatchCompiler batchCompiler;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    // Directories whose every source is watched, as opposed to parents of explicitly named files
+    private final Set<Path> sourceDirectories = new HashSet<>();
+    private final Set<Path> watchedFiles = new HashSet<>();
+    // Checksum of the content every source was last compiled from, by source
+    private final Map<Path, Long> compiledChecksums = new HashMap<>();
+
+    public SourceWatcher(BatchCompiler batchCompiler, PrintStream out, PrintStream err) {
+        this.batchCompiler = batchCompiler;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Watches the given files and directories until the thread is interrupted. Directories are
+     * watched recursively, including the ones created after watching started.
+     */
+    public void watch(List<Path> roots) throws IOException, InterruptedException {
+        try(WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            List<Path> sources = new ArrayList<>();
+            for(Path root : roots) {
+                var path = root.toAbsolutePath().normalize();
+                if(Files.isDirectory(path)) {
+                    registerDirectory(watchService, path, sources);
+                } else {
+                    watchedFiles.add(path);
+                    registerParent(watchService, path);
+                    sources.add(path);
+                }
+            }
+
+            compileAll(readChecksums(sources));
+
+            while(!Thread.currentThread().isInterrupted()) {
+                Set<Path> changed = new LinkedHashSet<>();
+
+                WatchKey key = watchService.take();
+                while(key != null) {
+                    collectChanges(watchService, key, changed);
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                recompile(changed);
+            }
+        }
+    }
+
+    /**
+     * Compiles the sources as one batch. Each is given with the checksum of the content it is
+     * compiled from, or null when that could not be read.
+     */
+    private void compileAll(Map<Path, Long> sources) throws InterruptedException {
+        batchCompiler.compile(new ArrayList<>(sources.keySet()), new BatchCompiler.ResultHandler() {
+            @Override
+            public void onCompiled(Path source, CompilationContext context) {
+                var checksum = sources.get(source);
+                if(checksum != null) {
+                    compiledChecksums.put(source, checksum);
+                } else {
+                    compiledChecksums.remove(source);
+                }
+                batchCompiler.print(source, context, true, out, err);
+            }
+
+            @Override
+            public void onFailed(Path source, Throwable cause) {
+                // The file may be removed or half-written; the next event for it will recompile it
+                compiledChecksums.remove(source);
+                batchCompiler.printFailure(source, cause, true, out, err);
+            }
+        });
+        flush();
+    }
+
+    private void recompile(Set<Path> changed) throws InterruptedException {
+        Map<Path, Long> stale = new LinkedHashMap<>();
+        for(Path source : changed) {
+            if(!Files.isRegularFile(source)) {
+                compiledChecksums.remove(source);
+                continue;
+            }
+
+            var checksum = readChecksum(source);
+            if(checksum == null || !checksum.equals(compiledChecksums.get(source))) {
+                stale.put(source, checksum);
+            }
+        }
+
+        if(!stale.isEmpty()) {
+            compileAll(stale);
+        }
+    }
+
+    private static Map<Path, Long> readChecksums(List<Path> sources) {
+        Map<Path, Long> checksums = new LinkedHashMap<>();
+        for(Path source : sources) {
+            checksums.put(source, readChecksum(source));
+        }
+        return checksums;
+    }
+
+    // Returns the CRC-32 of the content of the file, or null when it cannot be read
+    private static Long readChecksum(Path file) {
+        try(var channel = FileChannel.open(file)) {
+            var crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return crc.getValue();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void collectChanges(WatchService watchService, WatchKey key, Set<Path> changed) throws IOException {
+        var directory = watchedDirectories.get(key);
+
+        for(WatchEvent<?> event : key.pollEvents()) {
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Some events were lost, so every known file may be stale
+                changed.addAll(compiledChecksums.keySet());
+                continue;
+            }
+
+            var path = directory.resolve((Path) event.context());
+            if(event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path) && sourceDirectories.contains(directory)) {
+                List<Path> sources = new ArrayList<>();
+                registerDirectory(watchService, path, sources);
+                changed.addAll(sources);
+            } else if(isSource(path, directory)) {
+                changed.add(path);
+            }
+        }
+
+        if(!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private boolean isSource(Path path, Path directory) {
+        if(watchedFiles.contains(path))
+            return true;
+
+        return sourceDirectories.contains(directory) && path.getFileName().toString().endsWith(SOURCE_FILE_EXTENSION);
+    }
+
+    private void registerDirectory(WatchService watchService, Path root, List<Path> sources) throws IOException {
+        try(Stream<Path> walk = Files.walk(root)) {
+            for(Path path : walk.sorted().toList()) {
+                if(Files.isDirectory(path)) {
+                    register(watchService, path);
+                    sourceDirectories.add(path);
+                } else if(path.getFileName().toString().endsWith(SOURCE_FILE_EXTENSION)) {
+                    sources.add(path);
+                }
+            }
+        }
+    }
+
+    private void registerParent(WatchService watchService, Path file) throws IOException {
+        register(watchService, file.getParent());
+    }
+
+    private void register(WatchService watchService, Path directory) throws IOException {
+        var key = directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        watchedDirectories.put(key, directory);
+    }
+
+    private void flush() {
+        out.flush();
+        err.flush();
+    }
+
+}
@@ -1,73 +1,347 @@
+import model.ClassItem;
 import model.SymbolItem;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 public class SymbolTable {
-    private static final List<SymbolTable> allInstances = new LinkedList<>();
     public SymbolTable parent;
 
+    /**
+     * A name defined in the scope. A name that is defined again is not replaced: the new
+     * definition is chained to the first one, remembering where it was made.
+     */
+    private static class Entry {
+        final Namespace namespace;
+        final String name;
+        SymbolItem item;
+        final int line;
+        final int column;
+        // String.hashCode of the key the dump shows for the entry
+        final int keyHash;
+        Entry nextDuplicate;
+
+        Entry(Namespace namespace, String name, SymbolItem item, int line, int column) {
+            this.namespace = namespace;
+            this.name = name;
+            this.item = item;
+            this.line = line;
+            this.column = column;
+            this.keyHash = hashKey();
+        }
+
+        boolean isDuplicate() {
+            return line != NO_POSITION;
+        }
+
+        // Hashes the key appendKey renders without rendering it, the way String.hashCode would
+        private int hashKey() {
+            if(!isDuplicate())
+                return continueHash(namespace.getKeyPrefix().hashCode(), name);
+
+            int hash = continueHash(name.hashCode(), "_");
+            hash = continueHash(hash, Integer.toString(line));
+            hash = continueHash(hash, "_");
+            return continueHash(hash, Integer.toString(column));
+        }
+
+        private static int continueHash(int hash, String text) {
+            for(int i = 0; i < text.length(); i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+            return hash;
+        }
+
+        void appendKey(StringBuilder output) {
+            if(isDuplicate()) {
+                output.append(name).append('_').append(line).append('_').append(column);
+            } else {
+                output.append(namespace.getKeyPrefix()).append(name);
+            }
+        }
+    }
+
+    private static final int NO_POSITION = -1;
+
+    // The capacity a HashMap starts with, and the share of it the map fills before doubling it
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+
+    private static final String NO_PARENT_CLASS = "none";
+
+    private static final String TITLE_RULE = "=".repeat(30);
+    private static final String SPACES = " ".repeat(64);
+    private static final String DASHES = "-".repeat(64);
+
     private final String name;
     private final int scopeNumber;
-    private final HashMap<String, SymbolItem> table = new HashMap<>();
-    private int maxKeyLen = 0;
-    private int maxValueLen = 0;
+    private final ScopeRegistry registry;
+    // The class when this is the scope of a class, or null
+    private final ClassItem classItem;
+    private final Map<Namespace, Map<String, Entry>> names = new EnumMap<>(Namespace.class);
+    // Every entry, including the duplicates, in the order they were inserted
+    private final List<Entry> entries = new ArrayList<>();
+
+    // Changes whenever a lookup in this scope may find something else than before
+    private int version = 0;
+
+    // Results of resolve, including the names that were not found, valid while the scopes they were
+    // resolved through have the versions that add up to cacheStamp
+    private final Map<Namespace, Map<String, SymbolItem>> resolved = new EnumMap<>(Namespace.class);
+    private long cacheStamp = -1;
+
+    public SymbolTable(String name, int scopeNumber, SymbolTable parent, ScopeRegistry registry) {
+        this(name, scopeNumber, parent, registry, null);
+    }
 
-    public SymbolTable(String name, int scopeNumber, SymbolTable parent) {
+    public SymbolTable(String name, int scopeNumber, SymbolTable parent, ScopeRegistry registry, ClassItem classItem) {
         this.name = name;
         this.scopeNumber = scopeNumber;
         this.parent = parent;
-        allInstances.add(this);
+        this.registry = registry;
+        this.classItem = classItem;
+        for(Namespace namespace : Namespace.values()) {
+            names.put(namespace, new HashMap<>());
+        }
+    }
+
+    /**
+     * Defines a name, replacing the item of an earlier definition of the same name.
+     */
+    public void insert(Namespace namespace, String name, SymbolItem value) {
+        var entry = names.get(namespace).get(name);
+        if(entry != null) {
+            entry.item = value;
+        } else {
+            entry = new Entry(namespace, name, value, NO_POSITION, NO_POSITION);
+            names.get(namespace).put(name, entry);
+            entries.add(entry);
+        }
+        version++;
     }
 
-    public static List<SymbolTable> getAllInstances() {
-        return allInstances;
+    /**
+     * Records a redefinition of a name made at the given position. Lookups keep finding the first
+     * definition.
+     */
+    public void insertDuplicate(Namespace namespace, String name, SymbolItem value, int line, int column) {
+        var duplicate = new Entry(namespace, name, value, line, column);
+        var entry = names.get(namespace).get(name);
+        if(entry == null) {
+            names.get(namespace).put(name, duplicate);
+            version++;
+        } else {
+            while(entry.nextDuplicate != null) {
+                entry = entry.nextDuplicate;
+            }
+            entry.nextDuplicate = duplicate;
+        }
+        entries.add(duplicate);
     }
 
-    public void insert(String key, SymbolItem value){
-        table.put(key, value);
-        maxKeyLen = Math.max(maxKeyLen, key.length() + 1);
-        maxValueLen = Math.max(maxValueLen, value.toString().length() + 1);
+    public SymbolItem lookup(Namespace namespace, String name){
+        var entry = names.get(namespace).get(name);
+        return (entry == null) ? null : entry.item;
     }
 
-    public SymbolItem lookup(String key){
-        return table.getOrDefault(key, null);
+    public boolean contains(Namespace namespace, String name) {
+        return names.get(namespace).containsKey(name);
     }
 
-    public boolean contains(String key) {
-        return table.containsKey(key);
+    /**
+     * Finds the definition a name refers to from this scope: the scope itself, then for the scope
+     * of a class its ancestor classes, then the enclosing scopes in the same way. Returns null
+     * when the name is not defined.
+     */
+    public SymbolItem resolve(Namespace namespace, String name) {
+        long stamp = getResolutionStamp();
+        if(cacheStamp != stamp) {
+            resolved.clear();
+            cacheStamp = stamp;
+        }
+
+        var cache = resolved.computeIfAbsent(namespace, key -> new HashMap<>());
+        if(cache.containsKey(name))
+            return cache.get(name);
+
+        var item = resolveUncached(namespace, name);
+        cache.put(name, item);
+        return item;
     }
 
-    private String printItems(){
-        String tableBorder = '+' + "-".repeat(maxKeyLen+1) + '+' + "-".repeat(maxValueLen+1) + '+' + '\n';
+    // Adds up the versions of every scope a name can be resolved through from here, and the number of
+    // class scopes, which is all resolution depends on. Each of these only ever grows, and a newly
+    // registered class scope can only add scopes to the sum, so any change makes the sum grow too.
+    // Only scopes that see the insertion of a symbol lose what they resolved before.
+    private long getResolutionStamp() {
+        long stamp = registry.getClassCount();
+        for(var scope = this; scope != null; scope = scope.parent) {
+            stamp += scope.version;
+            if(scope.classItem == null)
+                continue;
+
+            var classScope = scope;
+            for(int step = 0; step < registry.getClassCount(); step++) {
+                classScope = classScope.getSuperClassScope();
+                if(classScope == null)
+                    break;
+                stamp += classScope.version;
+            }
+        }
+        return stamp;
+    }
 
-        StringBuilder tableString = new StringBuilder(tableBorder)
-                .append("| ")
-                .append(String.format("%-" + maxKeyLen + "s", "KEY"))
-                .append("| ")
-                .append(String.format("%-" + maxValueLen + "s", "VALUE"))
-                .append("|")
-                .append('\n')
-                .append(tableBorder);
+    private SymbolItem resolveUncached(Namespace namespace, String name) {
+        var item = lookup(namespace, name);
+        if(item != null)
+            return item;
 
-        for(var entry: table.entrySet()){
-            String key = entry.getKey();
-            String value = entry.getValue().toString();
-            key = String.format("%-" + maxKeyLen + "s", key);
-            value = String.format("%-" + maxValueLen + "s", value);
-            tableString.append("| " + key + "| " + value + "|").append('\n');
+        if(classItem != null) {
+            item = resolveInAncestorClasses(namespace, name);
+            if(item != null)
+                return item;
         }
-        tableString.append(tableBorder);
 
-        return tableString.toString();
+        return (parent == null) ? null : parent.resolve(namespace, name);
+    }
+
+    private SymbolItem resolveInAncestorClasses(Namespace namespace, String name) {
+        var classScope = this;
+        // A hierarchy with cycles must not be followed forever
+        for(int step = 0; step < registry.getClassCount(); step++) {
+            var superScope = classScope.getSuperClassScope();
+            if(superScope == null)
+                return null;
+
+            var item = superScope.lookup(namespace, name);
+            if(item != null)
+                return item;
+            classScope = superScope;
+        }
+        return null;
+    }
+
+    private SymbolTable getSuperClassScope() {
+        var parentClass = classItem.getParent();
+        if(parentClass == null || NO_PARENT_CLASS.equals(parentClass))
+            return null;
+        return registry.getClassScope(parentClass);
+    }
+
+    /**
+     * Writes the table of this scope to output. The keys and values are rendered into scratch first,
+     * which callers dumping many scopes can reuse, since the column widths depend on all of them.
+     */
+    public void dump(Appendable output, StringBuilder scratch) throws IOException {
+        output.append(TITLE_RULE).append(' ').append(name).append(": ").append(Integer.toString(scopeNumber))
+                .append(' ').append(TITLE_RULE).append('\n');
+
+        if(entries.isEmpty()) {
+            output.append(" - empty symbol table\n").append('\n');
+            return;
+        }
+
+        // Entry i has its key in scratch from ends[2i - 1] (or 0) to ends[2i] and its value from
+        // ends[2i] to ends[2i + 1]
+        scratch.setLength(0);
+        int[] ends = new int[entries.size() * 2];
+        int maxKeyLen = 0;
+        int maxValueLen = 0;
+        for(int i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+            int start = scratch.length();
+            entry.appendKey(scratch);
+            ends[2 * i] = scratch.length();
+            entry.item.appendTo(scratch);
+            ends[2 * i + 1] = scratch.length();
+
+            maxKeyLen = Math.max(maxKeyLen, ends[2 * i] - start + 1);
+            maxValueLen = Math.max(maxValueLen, ends[2 * i + 1] - ends[2 * i] + 1);
+        }
+
+        appendBorder(output, maxKeyLen, maxValueLen);
+        output.append("| ");
+        appendPadded(output, "KEY", 0, 3, maxKeyLen);
+        output.append("| ");
+        appendPadded(output, "VALUE", 0, 5, maxValueLen);
+        output.append("|\n");
+        appendBorder(output, maxKeyLen, maxValueLen);
+
+        for(int i : getRowOrder()) {
+            int start = (i == 0) ? 0 : ends[2 * i - 1];
+            output.append("| ");
+            appendPadded(output, scratch, start, ends[2 * i], maxKeyLen);
+            output.append("| ");
+            appendPadded(output, scratch, ends[2 * i], ends[2 * i + 1], maxValueLen);
+            output.append("|\n");
+        }
+        appendBorder(output, maxKeyLen, maxValueLen);
+        output.append('\n');
+    }
+
+    // The rows are listed in the order the tables were always printed in, which is the iteration
+    // order of a HashMap the keys were put into as they were defined. That map lists its keys by
+    // bucket, and the keys of a bucket in the order they were put. The keys of a scope are all
+    // different, so the rows are sorted by the bucket of their hash and then by definition.
+    private int[] getRowOrder() {
+        int capacity = HASH_MAP_INITIAL_CAPACITY;
+        while(entries.size() > capacity * HASH_MAP_LOAD_FACTOR) {
+            capacity *= 2;
+        }
+
+        // The bucket goes into the high half and the row into the low half of each sort key
+        long[] keys = new long[entries.size()];
+        for(int i = 0; i < keys.length; i++) {
+            int hash = entries.get(i).keyHash;
+            int bucket = (hash ^ (hash >>> 16)) & (capacity - 1);
+            keys[i] = ((long) bucket << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] rows = new int[keys.length];
+        for(int i = 0; i < rows.length; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+
+    private static void appendBorder(Appendable output, int maxKeyLen, int maxValueLen) throws IOException {
+        output.append('+');
+        appendRepeated(output, DASHES, maxKeyLen + 1);
+        output.append('+');
+        appendRepeated(output, DASHES, maxValueLen + 1);
+        output.append("+\n");
+    }
+
+    // Left-justifies text[start, end) in a column of the given width, like %-<width>s
+    private static void appendPadded(Appendable output, CharSequence text, int start, int end, int width) throws IOException {
+        output.append(text, start, end);
+        appendRepeated(output, SPACES, width - (end - start));
+    }
+
+    private static void appendRepeated(Appendable output, String chunk, int count) throws IOException {
+        while(count > 0) {
+            int length = Math.min(count, chunk.length());
+            output.append(chunk, 0, length);
+            count -= length;
+        }
     }
 
     @Override
     public String toString() {
-        return "=".repeat(30) + " " + name + ": " + scopeNumber + ' ' + "=".repeat(30) + '\n' +
-                (table.isEmpty() ? " - empty symbol table\n" : printItems()) + '\n'
-                ;
+        var output = new StringBuilder();
+        try {
+            dump(output, new StringBuilder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toString();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+import ast.ClassDecl;
+import ast.Expr;
+import ast.FieldDecl;
+import ast.MethodDecl;
+import ast.Member;
+import ast.Program;
+import ast.Stmt;
+import model.TypeTable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Builds the symbol tables of a program from its AST. It hands the declarations to a
+ * SymbolTableBuilder in the order a walk of the parse tree would, so the tables and errors are
+ * the same as those of SymbolTableProgramPrinter.
+ */
+public class SymbolTableAstWalker {
+
+    private final SymbolTableBuilder builder;
+
+    private final TypeTable types;
+
+    public SymbolTableAstWalker(CompilationContext context) {
+        this.builder = new SymbolTableBuilder(context);
+        this.types = context.getTypes();
+    }
+
+    public void walk(Program program) {
+        builder.enterProgram(program.line());
+        for(ClassDecl classDecl : program.classes()) {
+            classDeclaration(classDecl);
+        }
+        builder.exitProgram();
+    }
+
+    private void classDeclaration(ClassDecl classDecl) {
+        builder.enterClass(classDecl.name(), Helper.getParentClassName(classDecl), classDecl.isEntry(), classDecl.startLine(), classDecl.column());
+        for(Member member : classDecl.members()) {
+            if(member instanceof FieldDecl field) {
+                // Only the first name of a declaration is defined, as the parse tree analysis does
+                builder.declareField(field.names().get(0), Helper.getType(field.type(), types), field.startLine(), field.column());
+            } else if(member instanceof MethodDecl method) {
+                methodDeclaration(method, classDecl.name());
+            }
+        }
+        builder.exitClass();
+    }
+
+    private void methodDeclaration(MethodDecl method, String className) {
+        var signature = new MethodSignature(method, className, types);
+        builder.enterMethod(signature, method.startLine(), method.column());
+        for(Stmt statement : method.body()) {
+            statement(statement);
+        }
+        builder.exitMethod(signature, method.startLine(), method.column());
+    }
+
+    /**
+     * Visits the statement in the order of the source. Statements nest as deep as else-if chains
+     * are long, so the nested statements still to visit and the scopes still to leave are kept in
+     * an explicit stack rather than by recursion.
+     */
+    private void statement(Stmt root) {
+        Deque<Runnable> pending = new ArrayDeque<>();
+        pending.push(() -> visitStatement(root, pending));
+        while(!pending.isEmpty()) {
+            pending.pop().run();
+        }
+    }
+
+    // Visits what the statement holds directly, and pushes the steps that come after that
+    private void visitStatement(Stmt statement, Deque<Runnable> pending) {
+        if(statement instanceof Stmt.Block block) {
+            builder.enterBlock();
+            pending.push(builder::exitBlock);
+            pushStatements(pending, block.statements());
+        } else if(statement instanceof Stmt.If conditional) {
+            builder.enterConditional(conditional.line());
+            expression(conditional.condition());
+            pending.push(builder::exitStatementScope);
+            if(conditional.otherwise() != null) {
+                pending.push(() -> visitStatement(conditional.otherwise(), pending));
+            }
+            var elseIfs = conditional.elseIfs();
+            for(int i = elseIfs.size() - 1; i >= 0; i--) {
+                var elseIf = elseIfs.get(i);
+                pending.push(() -> visitStatement(elseIf.then(), pending));
+                pending.push(() -> expression(elseIf.condition()));
+            }
+            pending.push(() -> visitStatement(conditional.then(), pending));
+        } else if(statement instanceof Stmt.While loop) {
+            builder.enterLoop(isOpen(loop.body()), loop.line());
+            expression(loop.condition());
+            pending.push(builder::exitStatementScope);
+            pending.push(() -> visitStatement(loop.body(), pending));
+        } else if(statement instanceof Stmt.Print print) {
+            expression(print.value());
+        } else if(statement instanceof Stmt.Assign assign) {
+            expression(assign.target());
+            expression(assign.value());
+        } else if(statement instanceof Stmt.Increment increment) {
+            expression(increment.target());
+        } else if(statement instanceof Stmt.Decrement decrement) {
+            expression(decrement.target());
+        } else if(statement instanceof Stmt.Return ret) {
+            builder.enterReturn();
+            expression(ret.value());
+            builder.exitReturn();
+        } else if(statement instanceof Stmt.VarDef varDef) {
+            variableDefinition(varDef);
+        }
+    }
+
+    // Pushed last to first, so that they are visited in the order of the source
+    private void pushStatements(Deque<Runnable> pending, List<Stmt> statements) {
+        for(int i = statements.size() - 1; i >= 0; i--) {
+            var statement = statements.get(i);
+            pending.push(() -> visitStatement(statement, pending));
+        }
+    }
+
+    /**
+     * Whether the grammar derives the statement as an open statement, which is a statement ending
+     * in an if without an else.
+     */
+    private static boolean isOpen(Stmt statement) {
+        while(true) {
+            if(statement instanceof Stmt.While loop) {
+                statement = loop.body();
+            } else if(statement instanceof Stmt.If conditional) {
+                if(conditional.otherwise() == null)
+                    return true;
+                statement = conditional.otherwise();
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private void variableDefinition(Stmt.VarDef varDef) {
+        for(Stmt.Var variable : varDef.vars()) {
+            expression(variable.value());
+        }
+
+        // Every variable of the statement gets the type of the operand the first initializer starts with
+        var type = Helper.extractType(ExpressionShapes.firstOperand(varDef.vars().get(0).value()), types);
+        if(type == null) {
+            type = types.getUnknown();
+        }
+
+        List<String> variableNames = varDef.vars().stream().map(Stmt.Var::name).toList();
+        builder.defineVariables(variableNames, type, varDef.startLine(), varDef.column());
+    }
+
+    /**
+     * Visits the expression in the order of the source, each operator before its operands. Operator
+     * chains form trees as deep as they are long, so the pending operands are kept in an explicit
+     * stack rather than by recursion.
+     */
+    private void expression(Expr root) {
+        Deque<Expr> pending = new ArrayDeque<>();
+        pending.push(root);
+        while(!pending.isEmpty()) {
+            var expression = pending.pop();
+            if(expression instanceof Expr.MethodCall call) {
+                builder.checkMethodCall(call.name(), getStaticType(call.receiver()), call.line(), call.column());
+                pushAll(pending, call.args());
+                pending.push(call.receiver());
+            } else if(expression instanceof Expr.FieldAccess access) {
+                pending.push(access.receiver());
+            } else if(expression instanceof Expr.ArrayAccess access) {
+                pending.push(access.index());
+                pending.push(access.array());
+            } else if(expression instanceof Expr.Unary unary) {
+                pending.push(unary.operand());
+            } else if(expression instanceof Expr.Binary binary) {
+                pending.push(binary.right());
+                pending.push(binary.left());
+            } else if(expression instanceof Expr.Parenthesized parenthesized) {
+                pending.push(parenthesized.expression());
+            } else if(expression instanceof Expr.NewArray newArray) {
+                builder.enterOperand(Helper.extractType(newArray, types));
+                pending.push(newArray.size());
+            } else if(expression instanceof Expr.Call call) {
+                pushAll(pending, call.args());
+            } else {
+                builder.enterOperand(Helper.extractType(expression, types));
+            }
+        }
+    }
+
+    // Pushed last to first, so that they are popped in the order of the source
+    private static void pushAll(Deque<Expr> pending, List<Expr> expressions) {
+        for(int i = expressions.size() - 1; i >= 0; i--) {
+            pending.push(expressions.get(i));
+        }
+    }
+
+    /**
+     * Returns the class of the given expression when it is evident without type checking, which is
+     * the case for self, object creation and variables, or null otherwise.
+     */
+    private String getStaticType(Expr expression) {
+        var operand = ExpressionShapes.singleOperand(expression);
+        if(operand instanceof Expr.Self) {
+            return builder.getCurrentClassName();
+        } else if(operand instanceof Expr.NewObject newObject) {
+            return newObject.className();
+        } else if(operand instanceof Expr.Identifier identifier) {
+            return builder.getClassOfVariable(identifier.name());
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,247 @@
+import model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+/**
+ * Builds the symbol tables of a compilation and reports the errors found while doing so. The
+ * declarations are handed over in the order of the source by whoever walks the program, which is
+ * SymbolTableAstWalker for the AST and SymbolTableProgramPrinter for parse trees that could not be
+ * lowered, so both produce the same tables and errors.
+ */
+public class SymbolTableBuilder {
+
+    private final Stack<SymbolTable> scopes = new Stack<>();
+
+    private boolean isInsideALocalBlock = false;
+
+    private final CompilationContext context;
+
+    private final ErrorReporter errorReporter;
+
+    private final NameTable names;
+
+    private final Map<String, String> classesToParents;
+
+    private boolean isReturningFromMethod = false;
+
+    private Type currentReturningType = null;
+
+    private final PrivateMethodIndex privateMethods;
+
+    private String currentClassName = null;
+
+    public SymbolTableBuilder(CompilationContext context) {
+        this.context = context;
+        this.errorReporter = context.getErrorReporter();
+        this.names = context.getNames();
+        this.classesToParents = context.getClassesToParents();
+        this.privateMethods = new PrivateMethodIndex(classesToParents);
+    }
+
+    private void pushScope(String name, int line) {
+        var parent = scopes.isEmpty() ? null : scopes.peek();
+        scopes.push(context.createScope(name, line, parent));
+    }
+
+    public void enterProgram(int line) {
+        pushScope("program", line);
+    }
+
+    public void exitProgram() {
+        for(List<String> cycle : Helper.detectCircularInheritance(classesToParents)) {
+            errorReporter.reportCircularInheritanceError(cycle);
+        }
+
+        scopes.pop();
+    }
+
+    /**
+     * Enters a class declared at line, whose name starts at nameColumn. The parent name is "none"
+     * for a class that does not inherit from another.
+     */
+    public void enterClass(String name, String parentName, boolean isEntry, int line, int nameColumn) {
+        // The inheritance relation only holds names of the table, so that Helper compares them by
+        // identity. Those read by the scanner are interned already and found right away.
+        var className = names.intern(name);
+
+        currentClassName = className;
+
+        var parentClassName = names.intern(parentName);
+
+        classesToParents.put(className, parentClassName);
+
+        var value = new ClassItem(className, parentClassName, isEntry);
+
+        if(scopes.peek().contains(Namespace.CLASS, className)) {
+            errorReporter.reportClassRedefinitionError(className, line, nameColumn);
+            scopes.peek().insertDuplicate(Namespace.CLASS, className, value, line, nameColumn);
+        } else {
+            scopes.peek().insert(Namespace.CLASS, className, value);
+        }
+
+        var parent = scopes.peek();
+        scopes.push(context.createClassScope(value, line, parent));
+    }
+
+    public void exitClass() {
+        currentClassName = null;
+        scopes.pop();
+    }
+
+    public void declareField(String fieldName, Type type, int line, int column) {
+        var value = new ClassFieldItem(fieldName, type, true);
+
+        if(scopes.peek().contains(Namespace.FIELD, fieldName)) {
+            errorReporter.reportFieldRedefinitionError(fieldName, line, column);
+            scopes.peek().insertDuplicate(Namespace.FIELD, fieldName, value, line, column);
+        } else {
+            scopes.peek().insert(Namespace.FIELD, fieldName, value);
+        }
+    }
+
+    public void enterMethod(MethodSignature signature, int line, int nameColumn) {
+        var namespace = signature.isConstructor() ? Namespace.CONSTRUCTOR : Namespace.METHOD;
+        var methodName = signature.getName();
+
+        if(currentClassName != null) {
+            privateMethods.addMethod(currentClassName, methodName, signature.isPrivate());
+        }
+
+        SymbolItem value;
+        if(signature.isConstructor()) {
+            value = new ConstructorItem(methodName, signature.getAccessModifier(), signature.getIndexedParameters());
+        } else {
+            value = new MethodItem(methodName, signature.getReturnType(), signature.getAccessModifier(), signature.getIndexedParameters());
+        }
+
+        var item = scopes.peek().lookup(namespace, methodName);
+        if(item instanceof MethodItem methodItem && methodItem.equals(value)) {
+            errorReporter.reportMethodRedefinitionError(methodName, line, nameColumn);
+            scopes.peek().insertDuplicate(namespace, methodName, value, line, nameColumn);
+        } else {
+            scopes.peek().insert(namespace, methodName, value);
+        }
+
+        pushScope(methodName, line);
+
+        for(ParamFieldItem param : signature.getParameterItems()) {
+            scopes.peek().insert(Namespace.FIELD, param.getName(), param);
+        }
+    }
+
+    public void exitMethod(MethodSignature signature, int line, int nameColumn) {
+        var returnType = signature.getReturnType();
+        if(currentReturningType != null && returnType != currentReturningType) {
+            errorReporter.reportIncompatibleReturnTypeError(returnType.getName(), line, nameColumn);
+        }
+        currentReturningType = null;
+        scopes.pop();
+    }
+
+    public void enterConditional(int line) {
+        String name = "if";
+        if(isInsideALocalBlock)
+            name = "nested";
+
+        pushScope(name, line);
+    }
+
+    /**
+     * Enters a loop. A loop whose body is an open statement is named while even inside a block.
+     */
+    public void enterLoop(boolean isOpen, int line) {
+        String name = "while";
+        if(isInsideALocalBlock && !isOpen)
+            name = "nested";
+
+        pushScope(name, line);
+    }
+
+    /**
+     * Leaves the scope of a conditional or a loop.
+     */
+    public void exitStatementScope() {
+        scopes.pop();
+    }
+
+    /**
+     * Defines the variables of a var statement, once its initializers have been walked. A
+     * redefinition of any of them is reported at the first name of the statement.
+     */
+    public void defineVariables(List<String> variableNames, Type type, int line, int column) {
+        for(var variableName : variableNames) {
+            var value = new MethodVarItem(variableName, type, true);
+
+            if(scopes.peek().contains(Namespace.FIELD, variableName)) {
+                errorReporter.reportLocalVariableRedefinitionError(variableName, line, column);
+                scopes.peek().insertDuplicate(Namespace.FIELD, variableName, value, line, column);
+            } else {
+                scopes.peek().insert(Namespace.FIELD, variableName, value);
+            }
+        }
+    }
+
+    public void enterBlock() {
+        isInsideALocalBlock = true;
+    }
+
+    public void exitBlock() {
+        isInsideALocalBlock = false;
+    }
+
+    public void enterReturn() {
+        isReturningFromMethod = true;
+    }
+
+    public void exitReturn() {
+        isReturningFromMethod = false;
+    }
+
+    /**
+     * Notes an operand of the given type, or null when its type is not evident. The first typed
+     * operand of the returned expressions of a method decides the type the method returns.
+     */
+    public void enterOperand(Type type) {
+        if(isReturningFromMethod && currentReturningType == null) {
+            currentReturningType = type;
+        }
+    }
+
+    /**
+     * Checks a call of methodName on a receiver of class receiverClass, or of an unknown class
+     * when it is null. The line and column locate the call.
+     */
+    public void checkMethodCall(String methodName, String receiverClass, int line, int column) {
+        if(privateMethods.isInaccessible(methodName, receiverClass, currentClassName)) {
+            errorReporter.reportAccessToPrivateMethodError(line, column);
+        }
+    }
+
+    public String getCurrentClassName() {
+        return currentClassName;
+    }
+
+    /**
+     * Returns the class of the variable, parameter or field the name resolves to in the current
+     * scope, or null when it does not resolve to one of a class type.
+     */
+    public String getClassOfVariable(String name) {
+        var type = getVariableType(name);
+        return (type != null && type.isClass()) ? type.getName() : null;
+    }
+
+    private Type getVariableType(String name) {
+        var item = scopes.peek().resolve(Namespace.FIELD, name);
+        if(item instanceof MethodVarItem variable) {
+            return variable.getType();
+        } else if(item instanceof ParamFieldItem param) {
+            return param.getType();
+        } else if(item instanceof ClassFieldItem field) {
+            return field.getType();
+        }
+        return null;
+    }
+
+}
@@ -1,81 +1,52 @@
 import gen.ToorlaListener;
 import gen.ToorlaParser;
-import model.*;
+import model.Type;
+import model.TypeTable;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
-import java.util.*;
-
 public class SymbolTableProgramPrinter implements ToorlaListener  {
 
-    private final Stack<SymbolTable> scopes = new Stack<>();
-    private boolean isAnalyzingMethodVar = false;
-    private String currentMethodVarType = null;
-
-    private boolean isInsideALocalBlock = false;
-
-    private final ErrorReporter errorReporter = new ErrorReporter();
-
-    private final Map<String, String> classesToParents = new HashMap<>();
+    private final SymbolTableBuilder builder;
 
-    private boolean isReturningFromMethod = false;
+    private final TypeTable types;
 
-    private String currentReturningType = null;
+    private final MethodSignatures methodSignatures;
 
-    private final Map<String, List<String>> privateMethods = new HashMap<>(); // className -> list of private methods
-
-    private String currentClassName = null;
+    /**
+     * Creates the analysis for one walk of a tree of the compilation, reading the methods through
+     * the signatures built for that tree. The tree may have syntax errors, trees without any are
+     * lowered and analysed by SymbolTableAstWalker instead.
+     */
+    public SymbolTableProgramPrinter(CompilationContext context, MethodSignatures methodSignatures) {
+        this.builder = new SymbolTableBuilder(context);
+        this.types = context.getTypes();
+        this.methodSignatures = methodSignatures;
+    }
 
     @Override
     public void enterProgram(ToorlaParser.ProgramContext ctx) {
-        var root = new SymbolTable("program", ctx.start.getLine(), null);
-        scopes.push(root);
+        builder.enterProgram(ctx.start.getLine());
     }
 
     @Override
     public void exitProgram(ToorlaParser.ProgramContext ctx) {
-        var circularInheritanceHierarchy = Helper.detectCircularInheritance(classesToParents);
-        if(circularInheritanceHierarchy != null) {
-            errorReporter.reportCircularInheritanceError(circularInheritanceHierarchy);
-        }
-
-        scopes.pop();
+        builder.exitProgram();
     }
 
     @Override
     public void enterClassDeclaration(ToorlaParser.ClassDeclarationContext ctx) {
-        var className = ctx.ID(0).toString();
-
-        currentClassName = className;
-
-        var parentClassName = Helper.getParentClassName(ctx);
-
-        classesToParents.put(className, parentClassName);
-
-        var isEntry = Helper.isEntryClass(ctx);
-
-        var key = "class_" + className;
-        var value = new ClassItem(className, parentClassName, isEntry);
-
-        if(scopes.peek().contains(key)) {
-            int line = ctx.start.getLine();
-            int column = ctx.ID(0).getSymbol().getCharPositionInLine();
-            errorReporter.reportClassRedefinitionError(className, line, column);
-            key = String.format("%s_%s_%s", className, line, column);
-        }
-
-        scopes.peek().insert(key, value);
-
-        var newScope = new SymbolTable(className, ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
+        var name = ctx.ID(0);
+        int column = getNameColumn(name, ctx);
+        var className = (name == null) ? Helper.MISSING_NAME : name.getText();
+        builder.enterClass(className, Helper.getParentClassName(ctx), Helper.isEntryClass(ctx), ctx.start.getLine(), column);
     }
 
     @Override
     public void exitClassDeclaration(ToorlaParser.ClassDeclarationContext ctx) {
-        currentClassName = null;
-        scopes.pop();
+        builder.exitClass();
     }
 
     @Override
@@ -90,20 +61,13 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
 
     @Override
     public void enterFieldDeclaration(ToorlaParser.FieldDeclarationContext ctx) {
-        var fieldName = ctx.ID(0).toString();
-        var type = ctx.fieldType.getText();
-
-        var key = "field_" + fieldName;
+        // A declaration the parser recovered may have lost its names, and then declares nothing
+        var name = ctx.ID(0);
+        if(name == null)
+            return;
 
-        if(scopes.peek().contains(key)) {
-            int line = ctx.start.getLine();
-            int column = ctx.ID(0).getSymbol().getCharPositionInLine();
-            errorReporter.reportFieldRedefinitionError(fieldName, line, column);
-            key = String.format("%s_%s_%s", fieldName, line, column);
-        }
-
-        var value = new ClassFieldItem(fieldName, type, true);
-        scopes.peek().insert(key, value);
+        int column = name.getSymbol().getCharPositionInLine();
+        builder.declareField(name.getText(), Helper.getType(ctx.fieldType, types), ctx.start.getLine(), column);
     }
 
     @Override
@@ -123,58 +87,14 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
 
     @Override
     public void enterMethodDeclaration(ToorlaParser.MethodDeclarationContext ctx) {
-        var methodType = Helper.isConstructorMethod(ctx) ? "constructor" : "method";
-        var accessModifier = (ctx.access_modifier() == null) ? "public" : ctx.access_modifier().getText();
-        var methodName = ctx.methodName.getText();
-        var returnType = ctx.t.getText();
-
-        if("private".equals(accessModifier) && currentClassName != null) {
-            var list = privateMethods.get(currentClassName);
-            if(list == null)
-                list = new ArrayList<>();
-            list.add(methodName);
-            privateMethods.put(currentClassName, list);
-        }
-
-        var key = methodType + "_" + methodName;
-
-        SymbolItem value;
-        if("constructor".equals(methodType)) {
-            value = new ConstructorItem(methodName, accessModifier, Helper.getParametersIndexed(ctx));
-        } else {
-            value = new MethodItem(methodName, returnType, accessModifier, Helper.getParametersIndexed(ctx));
-        }
-
-        var item = scopes.peek().lookup(key);
-        if(item instanceof MethodItem methodItem && methodItem.equals(value)) {
-            int line = ctx.start.getLine();
-            int column = ctx.ID(0).getSymbol().getCharPositionInLine();
-            errorReporter.reportMethodRedefinitionError(methodName, line, column);
-            key = String.format("%s_%s_%s", methodName, line, column);
-        }
-
-        scopes.peek().insert(key, value);
-
-        var newScope = new SymbolTable(methodName, ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
-
-        var parameters = Helper.getParameters(ctx);
-        for(ParamFieldItem param : parameters) {
-            var fieldKey = "field_" + param.getName();
-            scopes.peek().insert(fieldKey, param);
-        }
+        int column = getNameColumn(ctx.ID(0), ctx);
+        builder.enterMethod(methodSignatures.get(ctx), ctx.start.getLine(), column);
     }
 
     @Override
     public void exitMethodDeclaration(ToorlaParser.MethodDeclarationContext ctx) {
-        var returnType = ctx.t.getText();
-        if(returnType != null && currentReturningType != null && !returnType.equals(currentReturningType)) {
-            int line = ctx.start.getLine();
-            int column = ctx.ID(0).getSymbol().getCharPositionInLine();
-            errorReporter.reportIncompatibleReturnTypeError(returnType, line, column);
-        }
-        currentReturningType = null;
-        scopes.pop();
+        int column = getNameColumn(ctx.ID(0), ctx);
+        builder.exitMethod(methodSignatures.get(ctx), ctx.start.getLine(), column);
     }
 
     @Override
@@ -189,32 +109,22 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
 
     @Override
     public void enterClosedConditional(ToorlaParser.ClosedConditionalContext ctx) {
-        String name = "if";
-        if(isInsideALocalBlock)
-            name = "nested";
-
-        var newScope = new SymbolTable(name, ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
+        builder.enterConditional(ctx.start.getLine());
     }
 
     @Override
     public void exitClosedConditional(ToorlaParser.ClosedConditionalContext ctx) {
-        scopes.pop();
+        builder.exitStatementScope();
     }
 
     @Override
     public void enterOpenConditional(ToorlaParser.OpenConditionalContext ctx) {
-        String name = "if";
-        if(isInsideALocalBlock)
-            name = "nested";
-
-        var newScope = new SymbolTable(name, ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
+        builder.enterConditional(ctx.start.getLine());
     }
 
     @Override
     public void exitOpenConditional(ToorlaParser.OpenConditionalContext ctx) {
-        scopes.pop();
+        builder.exitStatementScope();
     }
 
     @Override
@@ -239,38 +149,38 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
 
     @Override
     public void enterStatementVarDef(ToorlaParser.StatementVarDefContext ctx) {
-        isAnalyzingMethodVar = true;
+
     }
 
     @Override
     public void exitStatementVarDef(ToorlaParser.StatementVarDefContext ctx) {
-        var variableNames = ctx.ID().stream().map(ParseTree::getText).toList();
-        for(var variableName : variableNames) {
-            var key = "field_" + variableName;
-
-            if(scopes.peek().contains(key)) {
-                int line = ctx.start.getLine();
-                int column = ctx.ID(0).getSymbol().getCharPositionInLine();
-                errorReporter.reportLocalVariableRedefinitionError(variableName, line, column);
-                key = String.format("%s_%s_%s", variableName, line, column);
+        // Every variable of the statement gets the type of the operand the first initializer starts with
+        Type type = null;
+        var operand = ExpressionShapes.firstOperand(ctx.e1);
+        if(operand != null) {
+            type = Helper.extractType(operand, types);
+            if(type == null) {
+                type = types.getUnknown();
             }
-
-            var value = new MethodVarItem(variableName, currentMethodVarType, true);
-            scopes.peek().insert(key, value);
         }
 
-        isAnalyzingMethodVar = false;
-        currentMethodVarType = null;
+        var ids = ctx.ID();
+        if(ids.isEmpty())
+            return;
+
+        var variableNames = ids.stream().map(ParseTree::getText).toList();
+        int column = ids.get(0).getSymbol().getCharPositionInLine();
+        builder.defineVariables(variableNames, type, ctx.start.getLine(), column);
     }
 
     @Override
     public void enterStatementBlock(ToorlaParser.StatementBlockContext ctx) {
-        isInsideALocalBlock = true;
+        builder.enterBlock();
     }
 
     @Override
     public void exitStatementBlock(ToorlaParser.StatementBlockContext ctx) {
-        isInsideALocalBlock = false;
+        builder.exitBlock();
     }
 
     @Override
@@ -295,38 +205,32 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
 
     @Override
     public void enterStatementReturn(ToorlaParser.StatementReturnContext ctx) {
-        isReturningFromMethod = true;
+        builder.enterReturn();
     }
 
     @Override
     public void exitStatementReturn(ToorlaParser.StatementReturnContext ctx) {
-        isReturningFromMethod = false;
+        builder.exitReturn();
     }
 
     @Override
     public void enterStatementClosedLoop(ToorlaParser.StatementClosedLoopContext ctx) {
-        String name = "while";
-        if(isInsideALocalBlock)
-            name = "nested";
-
-        var newScope = new SymbolTable(name, ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
+        builder.enterLoop(false, ctx.start.getLine());
     }
 
     @Override
     public void exitStatementClosedLoop(ToorlaParser.StatementClosedLoopContext ctx) {
-        scopes.pop();
+        builder.exitStatementScope();
     }
 
     @Override
     public void enterStatementOpenLoop(ToorlaParser.StatementOpenLoopContext ctx) {
-        var newScope = new SymbolTable("while", ctx.start.getLine(), scopes.peek());
-        scopes.push(newScope);
+        builder.enterLoop(true, ctx.start.getLine());
     }
 
     @Override
     public void exitStatementOpenLoop(ToorlaParser.StatementOpenLoopContext ctx) {
-        scopes.pop();
+        builder.exitStatementScope();
     }
 
     @Override
@@ -370,92 +274,77 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
     }
 
     @Override
-    public void enterExpression(ToorlaParser.ExpressionContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpression(ToorlaParser.ExpressionContext ctx) {
-
+    public void enterExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) {
+        int column = ctx.ID().getSymbol().getCharPositionInLine();
+        builder.checkMethodCall(ctx.i.getText(), getStaticType(ctx.e), ctx.dotOp.getLine(), column);
     }
 
-    @Override
-    public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
-
+    // Where the name of the declaration starts, or the declaration itself when the parser
+    // recovered it without a name
+    private static int getNameColumn(TerminalNode name, ParserRuleContext ctx) {
+        return ((name == null) ? ctx.start : name.getSymbol()).getCharPositionInLine();
     }
 
-    @Override
-    public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
-
+    /**
+     * Returns the class of the given expression when it is evident without type checking, which is
+     * the case for self, object creation and variables, or null otherwise.
+     */
+    private String getStaticType(ToorlaParser.ExpressionContext expression) {
+        var other = ExpressionShapes.singleOperand(expression);
+        if(other == null) {
+            return null;
+        } else if(other.selfModifier != null) {
+            return builder.getCurrentClassName();
+        } else if(other.newModifier != null && other.i != null) {
+            return other.i.getText();
+        } else if(other.i1 != null) {
+            return builder.getClassOfVariable(other.i1.getText());
+        }
+        return null;
     }
 
     @Override
-    public void enterExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) {
+    public void exitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) {
+    public void enterExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
+    public void exitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
+    public void enterExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) {
+    public void exitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
+    public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
+    public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) {
+    public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) {
+    public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
 
     }
 
@@ -470,90 +359,58 @@ public class SymbolTableProgramPrinter implements ToorlaListener  {
     }
 
     @Override
-    public void enterExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void exitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) {
-
-    }
-
-    @Override
-    public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
+    public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) {
+    public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) {
+    public void enterExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) {
+    public void exitExpressionEq(ToorlaParser.ExpressionEqContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
+    public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) {
+    public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) {
+    public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void exitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) {
+    public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) {
 
     }
 
     @Override
-    public void enterExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) {
-        if(ctx.i != null) {
-            var methodName = ctx.i.getText();
-            var keys = privateMethods.keySet();
-            for(String className : keys) {
-                if(className.equals(currentClassName))
-                    continue;
+    public void enterExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) {
 
-                var methods = privateMethods.get(className);
-                if(methods != null && methods.contains(methodName)) {
-                    int line = ctx.start.getLine();
-                    int column = ctx.ID().getSymbol().getCharPositionInLine();
-                    errorReporter.reportAccessToPrivateMethodError(line, column);
-                }
-            }
-        }
     }
 
     @Override
-    public void exitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) {
+    public void exitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) {
 
     }
 
     @Override
     public void enterExpressionOther(ToorlaParser.ExpressionOtherContext ctx) {
-        var type = Helper.extractType(ctx);
-        if(isReturningFromMethod && currentReturningType == null) {
-            currentReturningType = type;
-        } else if(isAnalyzingMethodVar && currentMethodVarType == null) {
-            if(type == null) {
-                type = "local var";
-            }
-            currentMethodVarType = type;
-        }
+        builder.enterOperand(Helper.extractType(ctx, types));
     }
 
     @Override
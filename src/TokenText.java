@@ -0,0 +1,107 @@
+/**
+ * The text of a token as a view of the bytes of its source, which are not copied until the text
+ * is asked for as a String. The String is made once and kept.
+ *
+ * The hash code is that of the equal String, so a view can look up a String key in a hash table
+ * that compares with contentEquals. Two views are equal when their text is, which is found out by
+ * comparing their bytes when both are ASCII.
+ */
+public final class TokenText implements CharSequence {
+
+    private final MappedCharStream source;
+    private final int start;
+    private final int end;
+    private final boolean isAscii;
+
+    private String text;
+    private int hash;
+    private boolean hashIsComputed = false;
+
+    /**
+     * Creates the view of the bytes from start up to end, which have to be the byte offsets of
+     * code points of the source.
+     */
+    public TokenText(MappedCharStream source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.isAscii = source.isAscii(start, end);
+    }
+
+    @Override
+    public int length() {
+        return isAscii ? end - start : toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(!isAscii)
+            return toString().charAt(index);
+        if(index < 0 || index >= end - start)
+            throw new IndexOutOfBoundsException(index);
+        return (char) source.byteAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if(!isAscii)
+            return toString().subSequence(start, end);
+        if(start < 0 || end > length() || start > end)
+            throw new IndexOutOfBoundsException();
+        return new TokenText(source, this.start + start, this.start + end);
+    }
+
+    public boolean contentEquals(CharSequence other) {
+        if(other instanceof TokenText view)
+            return equals(view);
+        if(isAscii && other.length() != end - start)
+            return false;
+        if(!isAscii || text != null)
+            return toString().contentEquals(other);
+
+        for(int i = 0; i < other.length(); i++) {
+            if(other.charAt(i) != source.byteAt(start + i))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o)
+            return true;
+        if(!(o instanceof TokenText other))
+            return false;
+        if(hashIsComputed && other.hashIsComputed && hash != other.hash)
+            return false;
+        if(!isAscii || !other.isAscii)
+            return toString().equals(other.toString());
+        return end - start == other.end - other.start && source.bytesEqual(start, other.source, other.start, end - start);
+    }
+
+    @Override
+    public int hashCode() {
+        if(!hashIsComputed) {
+            if(isAscii) {
+                int h = 0;
+                for(int offset = start; offset < end; offset++) {
+                    h = 31 * h + source.byteAt(offset);
+                }
+                hash = h;
+            } else {
+                hash = toString().hashCode();
+            }
+            hashIsComputed = true;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if(text == null) {
+            text = source.decode(start, end);
+        }
+        return text;
+    }
+
+}
@@ -119,80 +119,19 @@ statementDec:
     lvalExpr=expression decOp='--' ';'
 ;
 expression:
-	e = expressionOr ;
-
-expressionOr:
-	a = expressionAnd ot = expressionOrTemp
-	;
-
-expressionOrTemp:
-	orOp='||' a = expressionAnd
-	ot = expressionOrTemp
-	|;
-
-expressionAnd:
-	e = expressionEq at = expressionAndTemp;
-
-expressionAndTemp:
-	andOp='&&' e = expressionEq
-	at = expressionAndTemp
-	|;
-
-expressionEq:
-	c = expressionCmp et = expressionEqTemp
+	e = expression dotOp='.' i = ID '(' ( e1 = expression  (',' e2 = expression )*)? ')'	# expressionMethodCall
+	| e = expression dotOp='.' ii = ID	# expressionFieldAccess
+	| e = expression leftBrace='[' e3 = expression ']'	# expressionArrayAccess
+	| (notOp='!' | negOp='-') u = expression	# expressionUnary
+	| l = expression (mulOp='*' | divOp='/' | modOp='%') r = expression	# expressionMultMod
+	| l = expression (addOp='+' | subOp='-') r = expression	# expressionAdd
+	| l = expression ( ltOp='<' | gtOp='>') r = expression	# expressionCmp
+	| l = expression ( eqOp='==' | neqOp='<>') r = expression	# expressionEq
+	| l = expression andOp='&&' r = expression	# expressionAnd
+	| l = expression orOp='||' r = expression	# expressionOr
+	| o = expressionOther	# expressionPrimary
 	;
 
-expressionEqTemp :
-	( eqOp='==' | neqOp='<>')
-	c=expressionCmp
-	et=expressionEqTemp
-	|;
-
-expressionCmp:
-	a = expressionAdd ct = expressionCmpTemp;
-
-expressionCmpTemp:
-	( ltOp='<' | gtOp='>')
-	a = expressionAdd
-	ct = expressionCmpTemp
-	|;
-
-expressionAdd:
-	m = expressionMultMod at = expressionAddTemp
-	;
-
-expressionAddTemp:
-	(addOp='+' | subOp='-')
-	m = expressionMultMod
-	at = expressionAddTemp
-	|;
-
-expressionMultMod:
-	u = expressionUnary mt = expressionMultModTemp
-    ;
-
-expressionMultModTemp :
-	(mulOp='*' | divOp='/' | modOp='%')
-	u = expressionUnary
-	mt = expressionMultModTemp
-	|;
-
-expressionUnary:
-	(notOp='!' | negOp='-')
-	u = expressionUnary
-	| m = expressionMethods ;
-
-expressionMethods:
-	o = expressionOther mt = expressionMethodsTemp
-;
-
-expressionMethodsTemp:
-	(dotOp='.' i = ID '(' ( e1 = expression  (',' e2 = expression )*)? ')'
-	| dotOp='.' ii = ID
-    | leftBrace='[' e3 = expression ']'
-    ) mt = expressionMethodsTemp
-	|;
-
 expressionOther:
 	n = CONST_NUM
 
@@ -0,0 +1,387 @@
+import gen.ToorlaLexer;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written lexer for Toorla producing exactly the tokens of the generated ToorlaLexer, with the
+ * same token types, positions and error messages, without running ANTLR's lexer simulator. The
+ * keywords and operators are taken from the vocabulary of the generated lexer, so the two agree
+ * on the token types by construction. See DifferentialCheck for comparing the two.
+ *
+ * Input the generated lexer cannot match is reported and skipped the way ANTLR does it: the
+ * message shows the text from the start of the failed token up to and including the character
+ * that could not be matched, and that character is skipped as well.
+ *
+ * Tokens are made by SourceTokenFactory unless another factory is set, so the tokens of a
+ * MappedCharStream only decode their text when it is asked for. Identifiers are the exception:
+ * their text is interned into a NameTable as soon as they are read.
+ */
+public class ToorlaScanner implements TokenSource {
+
+    private static final byte OTHER = 0;
+    private static final byte ID_START = 1;
+    private static final byte DIGIT = 2;
+
+    // Classification of the ASCII characters; everything else is OTHER
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+    // Token type of the one-character operator starting with a character, or 0
+    private static final int[] SINGLE_OPERATOR_TYPES = new int[128];
+    // Second character and token type of the two-character operator starting with a character, or 0
+    private static final char[] DOUBLE_OPERATOR_SECONDS = new char[128];
+    private static final int[] DOUBLE_OPERATOR_TYPES = new int[128];
+
+    // Keywords by length, with their token types in the same positions
+    private static final char[][][] KEYWORDS_BY_LENGTH;
+    private static final int[][] KEYWORD_TYPES_BY_LENGTH;
+    // The text of the keyword of each token type, shared by all the tokens of the keyword
+    private static final String[] KEYWORD_TEXTS = new String[ToorlaLexer.VOCABULARY.getMaxTokenType() + 1];
+
+    static {
+        for(char c = 'a'; c <= 'z'; c++) {
+            CHARACTER_CLASSES[c] = ID_START;
+            CHARACTER_CLASSES[Character.toUpperCase(c)] = ID_START;
+        }
+        CHARACTER_CLASSES['_'] = ID_START;
+        for(char c = '0'; c <= '9'; c++) {
+            CHARACTER_CLASSES[c] = DIGIT;
+        }
+
+        List<String> keywords = new ArrayList<>();
+        List<Integer> keywordTypes = new ArrayList<>();
+        int maxKeywordLength = 0;
+
+        Vocabulary vocabulary = ToorlaLexer.VOCABULARY;
+        for(int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            var literalName = vocabulary.getLiteralName(type);
+            if(literalName == null)
+                continue;
+
+            var literal = literalName.substring(1, literalName.length() - 1);
+            if(Character.isLetter(literal.charAt(0))) {
+                keywords.add(literal);
+                keywordTypes.add(type);
+                KEYWORD_TEXTS[type] = literal;
+                maxKeywordLength = Math.max(maxKeywordLength, literal.length());
+            } else if(literal.length() == 1) {
+                SINGLE_OPERATOR_TYPES[literal.charAt(0)] = type;
+            } else if(literal.length() == 2 && DOUBLE_OPERATOR_TYPES[literal.charAt(0)] == 0) {
+                DOUBLE_OPERATOR_SECONDS[literal.charAt(0)] = literal.charAt(1);
+                DOUBLE_OPERATOR_TYPES[literal.charAt(0)] = type;
+            } else {
+                throw new IllegalStateException("unsupported literal " + literalName);
+            }
+        }
+
+        KEYWORDS_BY_LENGTH = new char[maxKeywordLength + 1][][];
+        KEYWORD_TYPES_BY_LENGTH = new int[maxKeywordLength + 1][];
+        for(int length = 0; length <= maxKeywordLength; length++) {
+            List<char[]> sameLength = new ArrayList<>();
+            List<Integer> sameLengthTypes = new ArrayList<>();
+            for(int i = 0; i < keywords.size(); i++) {
+                if(keywords.get(i).length() == length) {
+                    sameLength.add(keywords.get(i).toCharArray());
+                    sameLengthTypes.add(keywordTypes.get(i));
+                }
+            }
+            KEYWORDS_BY_LENGTH[length] = sameLength.toArray(new char[0][]);
+            KEYWORD_TYPES_BY_LENGTH[length] = sameLengthTypes.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    private final CharStream input;
+    private final NameTable names;
+    private final Pair<TokenSource, CharStream> tokenFactorySourcePair;
+    private TokenFactory<?> factory = SourceTokenFactory.DEFAULT;
+    private final List<ANTLRErrorListener> errorListeners = new ArrayList<>(List.of(ConsoleErrorListener.INSTANCE));
+
+    private int line = 1;
+    private int charPositionInLine = 0;
+
+    // Start of the token being matched
+    private int tokenStartIndex;
+    private int tokenStartLine;
+    private int tokenStartCharPositionInLine;
+
+    // The characters of the identifier being matched, for recognizing keywords
+    private char[] identifier = new char[64];
+
+    public ToorlaScanner(CharStream input) {
+        this(input, new NameTable());
+    }
+
+    /**
+     * Creates a scanner that interns the identifiers it reads into the given table.
+     */
+    public ToorlaScanner(CharStream input, NameTable names) {
+        this.input = input;
+        this.names = names;
+        this.tokenFactorySourcePair = new Pair<>(this, input);
+    }
+
+    public void addErrorListener(ANTLRErrorListener listener) {
+        errorListeners.add(listener);
+    }
+
+    public void removeErrorListeners() {
+        errorListeners.clear();
+    }
+
+    @Override
+    public Token nextToken() {
+        while(true) {
+            tokenStartIndex = input.index();
+            tokenStartLine = line;
+            tokenStartCharPositionInLine = charPositionInLine;
+            // Lets the stream find the start of the token again, like ANTLR's lexers do
+            input.release(input.mark());
+
+            int c = input.LA(1);
+            if(c == IntStream.EOF)
+                return emit(Token.EOF, input.index(), input.index() - 1);
+
+            int type;
+            if(c < 128 && CHARACTER_CLASSES[c] == ID_START) {
+                type = matchIdentifier();
+                return withSharedText(emit(type, tokenStartIndex, input.index() - 1));
+            } else if(c < 128 && CHARACTER_CLASSES[c] == DIGIT) {
+                type = matchNumber(c);
+            } else {
+                type = matchOther(c);
+            }
+
+            if(type != Token.INVALID_TYPE)
+                return emit(type, tokenStartIndex, input.index() - 1);
+        }
+    }
+
+    private int matchIdentifier() {
+        int length = 0;
+        int c = input.LA(1);
+        while(c < 128 && c != IntStream.EOF && CHARACTER_CLASSES[c] != OTHER) {
+            if(length == identifier.length) {
+                identifier = Arrays.copyOf(identifier, length * 2);
+            }
+            identifier[length++] = (char) c;
+            consume(c);
+            c = input.LA(1);
+        }
+
+        if(length < KEYWORDS_BY_LENGTH.length) {
+            var keywords = KEYWORDS_BY_LENGTH[length];
+            for(int i = 0; i < keywords.length; i++) {
+                if(Arrays.equals(keywords[i], 0, length, identifier, 0, length))
+                    return KEYWORD_TYPES_BY_LENGTH[length][i];
+            }
+        }
+        return ToorlaLexer.ID;
+    }
+
+    // Identifiers get their String from the name table and keywords from the vocabulary, so all the
+    // tokens of a name share one String
+    private Token withSharedText(Token token) {
+        if(!(token instanceof WritableToken writable))
+            return token;
+
+        String text;
+        if(token.getType() != ToorlaLexer.ID) {
+            text = KEYWORD_TEXTS[token.getType()];
+        } else if(token instanceof SourceToken sourceToken) {
+            text = names.intern(sourceToken.getTextView());
+        } else {
+            text = names.intern(token.getText());
+        }
+        writable.setText(text);
+        return token;
+    }
+
+    private int matchNumber(int c) {
+        consume(c);
+        // A number starting with 0 is just 0
+        if(c == '0')
+            return ToorlaLexer.CONST_NUM;
+
+        c = input.LA(1);
+        while(c >= '0' && c <= '9') {
+            consume(c);
+            c = input.LA(1);
+        }
+        return ToorlaLexer.CONST_NUM;
+    }
+
+    // Returns the type of the matched token, or INVALID_TYPE when nothing was emitted
+    private int matchOther(int c) {
+        switch(c) {
+            case ' ', '\t', '\n' -> {
+                consume(c);
+                return Token.INVALID_TYPE;
+            }
+            case '\r' -> {
+                consume(c);
+                if(input.LA(1) != '\n')
+                    return recognitionError();
+                consume('\n');
+                return Token.INVALID_TYPE;
+            }
+            case '"' -> {
+                return matchString();
+            }
+            case '/' -> {
+                return matchSlash();
+            }
+        }
+
+        if(c >= 128 || (SINGLE_OPERATOR_TYPES[c] == 0 && DOUBLE_OPERATOR_TYPES[c] == 0))
+            return recognitionError();
+
+        consume(c);
+        if(DOUBLE_OPERATOR_TYPES[c] != 0 && input.LA(1) == DOUBLE_OPERATOR_SECONDS[c]) {
+            consume(DOUBLE_OPERATOR_SECONDS[c]);
+            return DOUBLE_OPERATOR_TYPES[c];
+        }
+        if(SINGLE_OPERATOR_TYPES[c] != 0)
+            return SINGLE_OPERATOR_TYPES[c];
+
+        // The first character of a two-character operator that means nothing on its own
+        return recognitionError();
+    }
+
+    private int matchString() {
+        consume('"');
+        while(true) {
+            int c = input.LA(1);
+            if(c == '"') {
+                consume(c);
+                return ToorlaLexer.CONST_STR;
+            } else if(c == '\r' || c == '\n' || c == IntStream.EOF) {
+                return recognitionError();
+            }
+            consume(c);
+        }
+    }
+
+    private int matchSlash() {
+        consume('/');
+        int c = input.LA(1);
+        if(c == '/') {
+            while(c != '\r' && c != '\n' && c != IntStream.EOF) {
+                consume(c);
+                c = input.LA(1);
+            }
+            return Token.INVALID_TYPE;
+        }
+
+        if(c != '*')
+            return SINGLE_OPERATOR_TYPES['/'];
+
+        // Without a closing */ the longest token matched from here is the / itself
+        int slashEndIndex = input.index();
+        int slashEndLine = line;
+        int slashEndCharPositionInLine = charPositionInLine;
+
+        consume(c);
+        while(true) {
+            c = input.LA(1);
+            if(c == IntStream.EOF) {
+                input.seek(slashEndIndex);
+                line = slashEndLine;
+                charPositionInLine = slashEndCharPositionInLine;
+                return SINGLE_OPERATOR_TYPES['/'];
+            }
+
+            consume(c);
+            if(c == '*' && input.LA(1) == '/') {
+                consume('/');
+                return Token.INVALID_TYPE;
+            }
+        }
+    }
+
+    // Reports the text of the failed token up to and including the next character, which could
+    // not be matched, and skips that character
+    private int recognitionError() {
+        var text = input.getText(Interval.of(tokenStartIndex, input.index()));
+        var message = "token recognition error at: '" + getErrorDisplay(text) + "'";
+        for(ANTLRErrorListener listener : errorListeners) {
+            listener.syntaxError(null, null, tokenStartLine, tokenStartCharPositionInLine, message, null);
+        }
+
+        int c = input.LA(1);
+        if(c != IntStream.EOF) {
+            consume(c);
+        }
+        return Token.INVALID_TYPE;
+    }
+
+    private static String getErrorDisplay(String text) {
+        StringBuilder display = new StringBuilder();
+        for(int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch(c) {
+                case '\n' -> display.append("\\n");
+                case '\t' -> display.append("\\t");
+                case '\r' -> display.append("\\r");
+                default -> display.append(c);
+            }
+        }
+        return display.toString();
+    }
+
+    private void consume(int c) {
+        input.consume();
+        if(c == '\n') {
+            line++;
+            charPositionInLine = 0;
+        } else {
+            charPositionInLine++;
+        }
+    }
+
+    private Token emit(int type, int start, int stop) {
+        return factory.create(tokenFactorySourcePair, type, null, Token.DEFAULT_CHANNEL, start, stop, tokenStartLine, tokenStartCharPositionInLine);
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return charPositionInLine;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+
+}
@@ -0,0 +1,249 @@
+package ast;
+
+import gen.ToorlaParser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Lowers an ANTLR parse tree into the abstract syntax tree. Punctuation and the statement nesting
+ * rules that only exist to resolve the dangling else are dropped, so the result no longer refers
+ * to the parse tree and the latter can be collected right after lowering.
+ *
+ * The parse tree must be free of syntax errors.
+ */
+public class AstBuilder {
+
+    public Program build(ToorlaParser.ProgramContext ctx) {
+        List<ClassDecl> classes = new ArrayList<>();
+        for(ParseTree child : ctx.children) {
+            if(child instanceof ToorlaParser.ClassDeclarationContext classContext) {
+                classes.add(classDeclaration(classContext, false));
+            } else if(child instanceof ToorlaParser.EntryClassDeclarationContext entryContext) {
+                classes.add(classDeclaration(entryContext.classDeclaration(), true));
+            }
+        }
+        return new Program(classes, ctx.start.getLine());
+    }
+
+    private ClassDecl classDeclaration(ToorlaParser.ClassDeclarationContext ctx, boolean isEntry) {
+        var parent = (ctx.classParent == null) ? null : ctx.classParent.getText();
+
+        List<Member> members = new ArrayList<>();
+        for(ParseTree child : ctx.children) {
+            if(child instanceof ToorlaParser.FieldDeclarationContext fieldContext) {
+                members.add(fieldDeclaration(fieldContext));
+            } else if(child instanceof ToorlaParser.MethodDeclarationContext methodContext) {
+                members.add(methodDeclaration(methodContext));
+            }
+        }
+
+        return new ClassDecl(ctx.className.getText(), parent, isEntry, members, ctx.start.getLine(), ctx.className.getLine(), ctx.className.getCharPositionInLine());
+    }
+
+    private FieldDecl fieldDeclaration(ToorlaParser.FieldDeclarationContext ctx) {
+        var accessModifier = (ctx.access_modifier() == null) ? null : ctx.access_modifier().getText();
+        var names = ctx.ID().stream().map(ParseTree::getText).toList();
+        return new FieldDecl(accessModifier, names, type(ctx.fieldType), ctx.start.getLine(), ctx.fieldName.getLine(), ctx.fieldName.getCharPositionInLine());
+    }
+
+    private MethodDecl methodDeclaration(ToorlaParser.MethodDeclarationContext ctx) {
+        var accessModifier = (ctx.methodAccessModifier == null) ? null : ctx.methodAccessModifier.getText();
+
+        // The first ID is the method name and the last type is the return type
+        var names = ctx.ID();
+        var types = ctx.toorlaType();
+        List<Param> params = new ArrayList<>();
+        for(int i = 0; i < types.size() - 1; i++) {
+            params.add(new Param(names.get(i + 1).getText(), type(types.get(i))));
+        }
+
+        List<Stmt> body = new ArrayList<>();
+        for(var statement : ctx.statement()) {
+            body.add(statement(statement));
+        }
+
+        return new MethodDecl(accessModifier, ctx.methodName.getText(), params, type(ctx.t), body, ctx.start.getLine(), ctx.methodName.getLine(), ctx.methodName.getCharPositionInLine());
+    }
+
+    private TypeRef type(ToorlaParser.ToorlaTypeContext ctx) {
+        return new TypeRef(singleTypeName(ctx.st), ctx.getChildCount() > 1);
+    }
+
+    private String singleTypeName(ToorlaParser.SingleTypeContext ctx) {
+        return (ctx.i != null) ? ctx.i.getText() : ctx.getStart().getText();
+    }
+
+    public Stmt statement(ParserRuleContext ctx) {
+        if(ctx instanceof ToorlaParser.StatementContext statement) {
+            return statement((statement.s1 != null) ? statement.s1 : statement.s2);
+        } else if(ctx instanceof ToorlaParser.ClosedStatementContext || ctx instanceof ToorlaParser.OpenStatementContext) {
+            var child = ctx.getChild(0);
+            return (child instanceof ParserRuleContext rule) ? statement(rule) : new Stmt.Empty();
+        } else if(ctx instanceof ToorlaParser.StatementBlockContext block) {
+            List<Stmt> statements = new ArrayList<>();
+            for(var statement : block.statement()) {
+                statements.add(statement(statement));
+            }
+            return new Stmt.Block(statements);
+        } else if(ctx instanceof ToorlaParser.ClosedConditionalContext || ctx instanceof ToorlaParser.OpenConditionalContext) {
+            return conditional(ctx);
+        } else if(ctx instanceof ToorlaParser.StatementClosedLoopContext loop) {
+            return new Stmt.While(expression(loop.e), statement(loop.s), loop.start.getLine());
+        } else if(ctx instanceof ToorlaParser.StatementOpenLoopContext loop) {
+            return new Stmt.While(expression(loop.e), statement(loop.s), loop.start.getLine());
+        } else if(ctx instanceof ToorlaParser.StatementWriteContext write) {
+            return new Stmt.Print(expression(write.e));
+        } else if(ctx instanceof ToorlaParser.StatementAssignmentContext assignment) {
+            return new Stmt.Assign(expression(assignment.left), expression(assignment.right));
+        } else if(ctx instanceof ToorlaParser.StatementIncContext inc) {
+            return new Stmt.Increment(expression(inc.lvalExpr));
+        } else if(ctx instanceof ToorlaParser.StatementDecContext dec) {
+            return new Stmt.Decrement(expression(dec.lvalExpr));
+        } else if(ctx instanceof ToorlaParser.StatementReturnContext ret) {
+            return new Stmt.Return(expression(ret.e));
+        } else if(ctx instanceof ToorlaParser.StatementVarDefContext varDef) {
+            return varDefinition(varDef);
+        } else if(ctx instanceof ToorlaParser.StatementContinueContext) {
+            return new Stmt.Continue();
+        } else if(ctx instanceof ToorlaParser.StatementBreakContext) {
+            return new Stmt.Break();
+        }
+        throw new IllegalArgumentException("not a statement: " + ctx.getClass().getSimpleName());
+    }
+
+    // Both kinds of conditional are a condition and a statement per if/elif branch, in that order,
+    // followed by a lone statement when there is an else branch
+    private Stmt conditional(ParserRuleContext ctx) {
+        List<ParserRuleContext> parts = new ArrayList<>();
+        for(ParseTree child : ctx.children) {
+            if(child instanceof ParserRuleContext rule) {
+                parts.add(rule);
+            }
+        }
+
+        var condition = expression((ToorlaParser.ExpressionContext) parts.get(0));
+        var then = statement(parts.get(1));
+
+        List<Stmt.ElseIf> elseIfs = new ArrayList<>();
+        int i = 2;
+        for(; i + 1 < parts.size(); i += 2) {
+            elseIfs.add(new Stmt.ElseIf(expression((ToorlaParser.ExpressionContext) parts.get(i)), statement(parts.get(i + 1))));
+        }
+
+        var otherwise = (i < parts.size()) ? statement(parts.get(i)) : null;
+        return new Stmt.If(condition, then, elseIfs, otherwise, ctx.start.getLine());
+    }
+
+    private Stmt varDefinition(ToorlaParser.StatementVarDefContext ctx) {
+        var names = ctx.ID();
+        var values = ctx.expression();
+        List<Stmt.Var> vars = new ArrayList<>();
+        for(int i = 0; i < names.size(); i++) {
+            vars.add(new Stmt.Var(names.get(i).getText(), expression(values.get(i))));
+        }
+        return new Stmt.VarDef(vars, ctx.start.getLine(), ctx.i1.getLine(), ctx.i1.getCharPositionInLine());
+    }
+
+    /**
+     * Lowers an expression. Operator chains form left-deep trees as long as the chain, so the left
+     * spine is followed with an explicit stack rather than by recursion.
+     */
+    public Expr expression(ToorlaParser.ExpressionContext ctx) {
+        Deque<ToorlaParser.ExpressionContext> spine = new ArrayDeque<>();
+        while(!(ctx instanceof ToorlaParser.ExpressionPrimaryContext)) {
+            spine.push(ctx);
+            ctx = innerOperand(ctx);
+        }
+
+        Expr result = primary(((ToorlaParser.ExpressionPrimaryContext) ctx).o);
+        while(!spine.isEmpty()) {
+            result = wrap(spine.pop(), result);
+        }
+        return result;
+    }
+
+    private static ToorlaParser.ExpressionContext innerOperand(ToorlaParser.ExpressionContext ctx) {
+        if(ctx instanceof ToorlaParser.ExpressionUnaryContext unary)
+            return unary.u;
+        if(ctx instanceof ToorlaParser.ExpressionMethodCallContext call)
+            return call.e;
+        if(ctx instanceof ToorlaParser.ExpressionFieldAccessContext access)
+            return access.e;
+        if(ctx instanceof ToorlaParser.ExpressionArrayAccessContext access)
+            return access.e;
+        // Every other alternative is a binary operator
+        return ctx.getRuleContext(ToorlaParser.ExpressionContext.class, 0);
+    }
+
+    private Expr wrap(ToorlaParser.ExpressionContext ctx, Expr operand) {
+        if(ctx instanceof ToorlaParser.ExpressionUnaryContext unary) {
+            return new Expr.Unary((unary.notOp != null) ? UnaryOp.NOT : UnaryOp.NEG, operand);
+        } else if(ctx instanceof ToorlaParser.ExpressionMethodCallContext call) {
+            var expressions = call.expression();
+            return new Expr.MethodCall(operand, call.i.getText(), expressions(expressions.subList(1, expressions.size())), call.dotOp.getLine(), call.i.getCharPositionInLine());
+        } else if(ctx instanceof ToorlaParser.ExpressionFieldAccessContext access) {
+            return new Expr.FieldAccess(operand, access.ii.getText());
+        } else if(ctx instanceof ToorlaParser.ExpressionArrayAccessContext access) {
+            return new Expr.ArrayAccess(operand, expression(access.e3));
+        } else if(ctx instanceof ToorlaParser.ExpressionMultModContext binary) {
+            var op = (binary.mulOp != null) ? BinaryOp.MUL : (binary.divOp != null) ? BinaryOp.DIV : BinaryOp.MOD;
+            return new Expr.Binary(op, operand, expression(binary.r));
+        } else if(ctx instanceof ToorlaParser.ExpressionAddContext binary) {
+            return new Expr.Binary((binary.addOp != null) ? BinaryOp.ADD : BinaryOp.SUB, operand, expression(binary.r));
+        } else if(ctx instanceof ToorlaParser.ExpressionCmpContext binary) {
+            return new Expr.Binary((binary.ltOp != null) ? BinaryOp.LT : BinaryOp.GT, operand, expression(binary.r));
+        } else if(ctx instanceof ToorlaParser.ExpressionEqContext binary) {
+            return new Expr.Binary((binary.eqOp != null) ? BinaryOp.EQ : BinaryOp.NEQ, operand, expression(binary.r));
+        } else if(ctx instanceof ToorlaParser.ExpressionAndContext binary) {
+            return new Expr.Binary(BinaryOp.AND, operand, expression(binary.r));
+        } else if(ctx instanceof ToorlaParser.ExpressionOrContext binary) {
+            return new Expr.Binary(BinaryOp.OR, operand, expression(binary.r));
+        }
+        throw new IllegalArgumentException("not an expression: " + ctx.getClass().getSimpleName());
+    }
+
+    private List<Expr> expressions(List<ToorlaParser.ExpressionContext> contexts) {
+        List<Expr> expressions = new ArrayList<>(contexts.size());
+        for(var context : contexts) {
+            expressions.add(expression(context));
+        }
+        return expressions;
+    }
+
+    private Expr primary(ToorlaParser.ExpressionOtherContext ctx) {
+        if(ctx.n != null) {
+            return new Expr.IntLiteral(ctx.n.getText());
+        } else if(ctx.s != null) {
+            return new Expr.StringLiteral(unquote(ctx.s));
+        } else if(ctx.st != null) {
+            return new Expr.NewArray(new TypeRef(singleTypeName(ctx.st), false), expression(ctx.size));
+        } else if(ctx.i != null) {
+            return new Expr.NewObject(ctx.i.getText());
+        } else if(ctx.selfModifier != null) {
+            return new Expr.Self();
+        } else if(ctx.trueModifier != null || ctx.falseModifier != null) {
+            return new Expr.BoolLiteral(ctx.trueModifier != null);
+        } else if(ctx.i1 != null) {
+            return new Expr.Identifier(ctx.i1.getText());
+        } else if(ctx.i2 != null) {
+            return new Expr.ArrayAccess(new Expr.Identifier(ctx.i2.getText()), expression(ctx.e));
+        } else if(ctx.leftPara != null) {
+            return new Expr.Parenthesized(expression(ctx.ee));
+        } else if(ctx.i3 != null) {
+            return new Expr.Call(ctx.i3.getText(), expressions(ctx.expression()));
+        }
+        throw new IllegalArgumentException("unknown expression: " + ctx.getText());
+    }
+
+    private static String unquote(Token token) {
+        var text = token.getText();
+        return text.substring(1, text.length() - 1);
+    }
+
+}
@@ -0,0 +1,521 @@
+package ast;
+
+import gen.ToorlaLexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Parses Toorla straight into the abstract syntax tree with recursive descent, and precedence
+ * climbing for the binary operators. It accepts the language of Toorla.g4 and builds the same tree
+ * AstBuilder builds from the parse tree of ToorlaParser, without creating parse tree nodes or
+ * running ANTLR's adaptive prediction. Every decision needs at most one token of lookahead, so
+ * tokens are pulled from the token source as they are needed.
+ *
+ * The first syntax error ends parsing with a SyntaxError; there is no error recovery.
+ */
+public class AstParser {
+
+    public static class SyntaxError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final int line;
+        private final int column;
+
+        public SyntaxError(String message, int line, int column) {
+            super(message, null, false, false);
+            this.line = line;
+            this.column = column;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+    }
+
+    private static final int CLASS = literalType("class");
+    private static final int INHERITS = literalType("inherits");
+    private static final int COLON = literalType(":");
+    private static final int END = literalType("end");
+    private static final int ENTRY = literalType("entry");
+    private static final int FIELD = literalType("field");
+    private static final int COMMA = literalType(",");
+    private static final int SEMICOLON = literalType(";");
+    private static final int PUBLIC = literalType("public");
+    private static final int PRIVATE = literalType("private");
+    private static final int FUNCTION = literalType("function");
+    private static final int LEFT_PARENTHESIS = literalType("(");
+    private static final int RIGHT_PARENTHESIS = literalType(")");
+    private static final int RETURNS = literalType("returns");
+    private static final int IF = literalType("if");
+    private static final int ELIF = literalType("elif");
+    private static final int ELSE = literalType("else");
+    private static final int VAR = literalType("var");
+    private static final int ASSIGN = literalType("=");
+    private static final int BEGIN = literalType("begin");
+    private static final int CONTINUE = literalType("continue");
+    private static final int BREAK = literalType("break");
+    private static final int RETURN = literalType("return");
+    private static final int WHILE = literalType("while");
+    private static final int PRINT = literalType("print");
+    private static final int INCREMENT = literalType("++");
+    private static final int DECREMENT = literalType("--");
+    private static final int DOT = literalType(".");
+    private static final int LEFT_BRACKET = literalType("[");
+    private static final int RIGHT_BRACKET = literalType("]");
+    private static final int NOT = literalType("!");
+    private static final int MINUS = literalType("-");
+    private static final int NEW = literalType("new");
+    private static final int SELF = literalType("self");
+    private static final int TRUE = literalType("true");
+    private static final int FALSE = literalType("false");
+    private static final int INT = literalType("int");
+    private static final int BOOL = literalType("bool");
+    private static final int STRING = literalType("string");
+
+    // The binary operator of each token type, or null, and its precedence; all of them are left
+    // associative and a higher precedence binds tighter
+    private static final BinaryOp[] BINARY_OPERATORS = new BinaryOp[ToorlaLexer.VOCABULARY.getMaxTokenType() + 1];
+    private static final int[] PRECEDENCES = new int[BINARY_OPERATORS.length];
+
+    static {
+        BinaryOp[][] levels = {
+                { BinaryOp.OR },
+                { BinaryOp.AND },
+                { BinaryOp.EQ, BinaryOp.NEQ },
+                { BinaryOp.LT, BinaryOp.GT },
+                { BinaryOp.ADD, BinaryOp.SUB },
+                { BinaryOp.MUL, BinaryOp.DIV, BinaryOp.MOD },
+        };
+        for(int level = 0; level < levels.length; level++) {
+            for(BinaryOp op : levels[level]) {
+                int type = literalType(op.getSymbol());
+                BINARY_OPERATORS[type] = op;
+                PRECEDENCES[type] = level;
+            }
+        }
+    }
+
+    private static int literalType(String literal) {
+        Vocabulary vocabulary = ToorlaLexer.VOCABULARY;
+        var literalName = "'" + literal + "'";
+        for(int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            if(literalName.equals(vocabulary.getLiteralName(type)))
+                return type;
+        }
+        throw new IllegalStateException("no token for " + literalName);
+    }
+
+    private final TokenSource tokens;
+    private Token current;
+
+    public AstParser(TokenSource tokens) {
+        this.tokens = tokens;
+        this.current = tokens.nextToken();
+    }
+
+    public Program parseProgram() {
+        int line = current.getLine();
+        List<ClassDecl> classes = new ArrayList<>();
+        boolean hasEntry = false;
+        while(current.getType() == CLASS || current.getType() == ENTRY) {
+            boolean isEntry = current.getType() == ENTRY;
+            if(isEntry) {
+                if(hasEntry)
+                    throw error("class");
+                hasEntry = true;
+                consume();
+            }
+            classes.add(classDeclaration(isEntry));
+        }
+
+        if(!hasEntry)
+            throw error("entry");
+        expect(Token.EOF, "<EOF>");
+        return new Program(classes, line);
+    }
+
+    private ClassDecl classDeclaration(boolean isEntry) {
+        int startLine = expect(CLASS, "class").getLine();
+        var name = expect(ToorlaLexer.ID, "ID");
+        String parent = null;
+        if(accept(INHERITS)) {
+            parent = expect(ToorlaLexer.ID, "ID").getText();
+        }
+        expect(COLON, ":");
+
+        List<Member> members = new ArrayList<>();
+        while(!accept(END)) {
+            int memberLine = current.getLine();
+            String accessModifier = null;
+            if(current.getType() == PUBLIC || current.getType() == PRIVATE) {
+                accessModifier = consume().getText();
+            }
+
+            if(current.getType() == FIELD) {
+                members.add(fieldDeclaration(accessModifier, memberLine));
+            } else if(current.getType() == FUNCTION) {
+                members.add(methodDeclaration(accessModifier, memberLine));
+            } else {
+                throw error((accessModifier == null) ? "end" : "function");
+            }
+        }
+
+        return new ClassDecl(name.getText(), parent, isEntry, members, startLine, name.getLine(), name.getCharPositionInLine());
+    }
+
+    private FieldDecl fieldDeclaration(String accessModifier, int startLine) {
+        expect(FIELD, "field");
+        var first = expect(ToorlaLexer.ID, "ID");
+        List<String> names = new ArrayList<>();
+        names.add(first.getText());
+        while(accept(COMMA)) {
+            names.add(expect(ToorlaLexer.ID, "ID").getText());
+        }
+
+        var type = type();
+        expect(SEMICOLON, ";");
+        return new FieldDecl(accessModifier, names, type, startLine, first.getLine(), first.getCharPositionInLine());
+    }
+
+    private MethodDecl methodDeclaration(String accessModifier, int startLine) {
+        expect(FUNCTION, "function");
+        var name = expect(ToorlaLexer.ID, "ID");
+        expect(LEFT_PARENTHESIS, "(");
+
+        List<Param> params = new ArrayList<>();
+        if(current.getType() == ToorlaLexer.ID) {
+            do {
+                var paramName = expect(ToorlaLexer.ID, "ID").getText();
+                expect(COLON, ":");
+                params.add(new Param(paramName, type()));
+            } while(accept(COMMA));
+        }
+        expect(RIGHT_PARENTHESIS, ")");
+        expect(RETURNS, "returns");
+        var returnType = type();
+        expect(COLON, ":");
+
+        List<Stmt> body = new ArrayList<>();
+        while(!accept(END)) {
+            body.add(statement());
+        }
+
+        return new MethodDecl(accessModifier, name.getText(), params, returnType, body, startLine, name.getLine(), name.getCharPositionInLine());
+    }
+
+    private TypeRef type() {
+        var name = singleTypeName();
+        boolean isArray = false;
+        if(accept(LEFT_BRACKET)) {
+            expect(RIGHT_BRACKET, "]");
+            isArray = true;
+        }
+        return new TypeRef(name, isArray);
+    }
+
+    private String singleTypeName() {
+        int type = current.getType();
+        if(type != INT && type != BOOL && type != STRING && type != ToorlaLexer.ID)
+            throw error("type");
+        return consume().getText();
+    }
+
+    /**
+     * Parses a statement. An elif or else belongs to the closest if that can still take it, which
+     * is what the closed and open statement rules of the grammar spell out.
+     *
+     * Statements nest as deep as else-if chains are long, so the blocks, conditionals and loops
+     * still waiting for a nested statement are kept in an explicit stack rather than by recursion.
+     */
+    public Stmt statement() {
+        Deque<CompoundStatement> open = new ArrayDeque<>();
+        while(true) {
+            var statement = startStatement(open);
+            while(statement != null) {
+                if(open.isEmpty())
+                    return statement;
+                statement = open.peek().add(statement);
+                if(statement != null) {
+                    open.pop();
+                }
+            }
+        }
+    }
+
+    /**
+     * A block, conditional or loop whose nested statements are being parsed.
+     */
+    private interface CompoundStatement {
+        // Takes the next nested statement, and returns the whole statement once it is complete or
+        // null while it needs another one
+        Stmt add(Stmt statement);
+    }
+
+    private class BlockStatement implements CompoundStatement {
+        private final List<Stmt> statements = new ArrayList<>();
+
+        @Override
+        public Stmt add(Stmt statement) {
+            statements.add(statement);
+            return accept(END) ? new Stmt.Block(statements) : null;
+        }
+    }
+
+    private class Conditional implements CompoundStatement {
+        private final Expr condition;
+        private final int line;
+        private Stmt then;
+        private final List<Stmt.ElseIf> elseIfs = new ArrayList<>();
+        private Expr elseIfCondition;
+        private boolean isInElse;
+
+        Conditional(Expr condition, int line) {
+            this.condition = condition;
+            this.line = line;
+        }
+
+        @Override
+        public Stmt add(Stmt statement) {
+            if(isInElse)
+                return new Stmt.If(condition, then, elseIfs, statement, line);
+
+            if(then == null) {
+                then = statement;
+            } else {
+                elseIfs.add(new Stmt.ElseIf(elseIfCondition, statement));
+            }
+
+            if(accept(ELIF)) {
+                elseIfCondition = parenthesizedExpression();
+                return null;
+            }
+            if(accept(ELSE)) {
+                isInElse = true;
+                return null;
+            }
+            return new Stmt.If(condition, then, elseIfs, null, line);
+        }
+    }
+
+    private record Loop(Expr condition, int line) implements CompoundStatement {
+        @Override
+        public Stmt add(Stmt statement) {
+            return new Stmt.While(condition, statement, line);
+        }
+    }
+
+    // Parses a statement that nests no other, or the head of one that does, which is then left
+    // open for its nested statements. Returns null in the latter case.
+    private Stmt startStatement(Deque<CompoundStatement> open) {
+        int type = current.getType();
+        if(type == BEGIN) {
+            consume();
+            if(accept(END))
+                return new Stmt.Block(List.of());
+            open.push(new BlockStatement());
+            return null;
+        } else if(type == IF) {
+            int line = consume().getLine();
+            open.push(new Conditional(parenthesizedExpression(), line));
+            return null;
+        } else if(type == WHILE) {
+            int line = consume().getLine();
+            open.push(new Loop(parenthesizedExpression(), line));
+            return null;
+        } else if(type == PRINT) {
+            consume();
+            var value = parenthesizedExpression();
+            expect(SEMICOLON, ";");
+            return new Stmt.Print(value);
+        } else if(type == RETURN) {
+            consume();
+            var value = expression();
+            expect(SEMICOLON, ";");
+            return new Stmt.Return(value);
+        } else if(type == VAR) {
+            return varDefinition();
+        } else if(type == CONTINUE || type == BREAK) {
+            consume();
+            expect(SEMICOLON, ";");
+            return (type == CONTINUE) ? new Stmt.Continue() : new Stmt.Break();
+        } else if(accept(SEMICOLON)) {
+            return new Stmt.Empty();
+        }
+
+        var target = expression();
+        Stmt result;
+        if(accept(ASSIGN)) {
+            result = new Stmt.Assign(target, expression());
+        } else if(accept(INCREMENT)) {
+            result = new Stmt.Increment(target);
+        } else if(accept(DECREMENT)) {
+            result = new Stmt.Decrement(target);
+        } else {
+            throw error("=");
+        }
+        expect(SEMICOLON, ";");
+        return result;
+    }
+
+    private Stmt varDefinition() {
+        int startLine = expect(VAR, "var").getLine();
+        var first = current;
+        List<Stmt.Var> vars = new ArrayList<>();
+        do {
+            var name = expect(ToorlaLexer.ID, "ID").getText();
+            expect(ASSIGN, "=");
+            vars.add(new Stmt.Var(name, expression()));
+        } while(accept(COMMA));
+        expect(SEMICOLON, ";");
+        return new Stmt.VarDef(vars, startLine, first.getLine(), first.getCharPositionInLine());
+    }
+
+    private Expr parenthesizedExpression() {
+        expect(LEFT_PARENTHESIS, "(");
+        var expression = expression();
+        expect(RIGHT_PARENTHESIS, ")");
+        return expression;
+    }
+
+    public Expr expression() {
+        return binaryExpression(0);
+    }
+
+    // Operators below the given precedence are left to the caller; chains of operators of the
+    // same precedence are folded to the left in a loop
+    private Expr binaryExpression(int minPrecedence) {
+        var result = unaryExpression();
+        while(true) {
+            int type = current.getType();
+            if(type == Token.EOF || BINARY_OPERATORS[type] == null || PRECEDENCES[type] < minPrecedence)
+                return result;
+
+            consume();
+            var op = BINARY_OPERATORS[type];
+            int precedence = PRECEDENCES[type];
+            result = new Expr.Binary(op, result, binaryExpression(precedence + 1));
+        }
+    }
+
+    // Prefix operators bind looser than the postfix ones, so -a[0] negates the element
+    private Expr unaryExpression() {
+        List<UnaryOp> prefixes = new ArrayList<>();
+        while(current.getType() == NOT || current.getType() == MINUS) {
+            prefixes.add((consume().getType() == NOT) ? UnaryOp.NOT : UnaryOp.NEG);
+        }
+
+        var result = postfixExpression();
+        for(int i = prefixes.size() - 1; i >= 0; i--) {
+            result = new Expr.Unary(prefixes.get(i), result);
+        }
+        return result;
+    }
+
+    private Expr postfixExpression() {
+        var result = primary();
+        while(true) {
+            if(current.getType() == DOT) {
+                var dot = consume();
+                var name = expect(ToorlaLexer.ID, "ID");
+                if(accept(LEFT_PARENTHESIS)) {
+                    result = new Expr.MethodCall(result, name.getText(), arguments(), dot.getLine(), name.getCharPositionInLine());
+                } else {
+                    result = new Expr.FieldAccess(result, name.getText());
+                }
+            } else if(accept(LEFT_BRACKET)) {
+                var index = expression();
+                expect(RIGHT_BRACKET, "]");
+                result = new Expr.ArrayAccess(result, index);
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Expr primary() {
+        int type = current.getType();
+        if(type == ToorlaLexer.CONST_NUM) {
+            return new Expr.IntLiteral(consume().getText());
+        } else if(type == ToorlaLexer.CONST_STR) {
+            var text = consume().getText();
+            return new Expr.StringLiteral(text.substring(1, text.length() - 1));
+        } else if(type == NEW) {
+            consume();
+            // new C() creates an object and new C[n] an array of C
+            boolean isClassName = current.getType() == ToorlaLexer.ID;
+            var elementType = singleTypeName();
+            if(!isClassName || current.getType() != LEFT_PARENTHESIS) {
+                expect(LEFT_BRACKET, "[");
+                var size = expression();
+                expect(RIGHT_BRACKET, "]");
+                return new Expr.NewArray(new TypeRef(elementType, false), size);
+            }
+            consume();
+            expect(RIGHT_PARENTHESIS, ")");
+            return new Expr.NewObject(elementType);
+        } else if(type == SELF) {
+            consume();
+            return new Expr.Self();
+        } else if(type == TRUE || type == FALSE) {
+            consume();
+            return new Expr.BoolLiteral(type == TRUE);
+        } else if(type == LEFT_PARENTHESIS) {
+            return new Expr.Parenthesized(parenthesizedExpression());
+        } else if(type == ToorlaLexer.ID) {
+            var name = consume().getText();
+            // An indexed name is left to postfixExpression, which builds the same ArrayAccess
+            if(accept(LEFT_PARENTHESIS))
+                return new Expr.Call(name, arguments());
+            return new Expr.Identifier(name);
+        }
+        throw error("expression");
+    }
+
+    // Parses the arguments of a call, after its opening parenthesis
+    private List<Expr> arguments() {
+        List<Expr> args = new ArrayList<>();
+        if(!accept(RIGHT_PARENTHESIS)) {
+            do {
+                args.add(expression());
+            } while(accept(COMMA));
+            expect(RIGHT_PARENTHESIS, ")");
+        }
+        return args;
+    }
+
+    private Token consume() {
+        var token = current;
+        current = tokens.nextToken();
+        return token;
+    }
+
+    private boolean accept(int type) {
+        if(current.getType() != type)
+            return false;
+        consume();
+        return true;
+    }
+
+    private Token expect(int type, String expected) {
+        if(current.getType() != type)
+            throw error(expected);
+        return consume();
+    }
+
+    private SyntaxError error(String expected) {
+        var text = (current.getType() == Token.EOF) ? "<EOF>" : current.getText();
+        var message = String.format("mismatched input '%s' expecting %s", text, expected);
+        return new SyntaxError(message, current.getLine(), current.getCharPositionInLine());
+    }
+
+}
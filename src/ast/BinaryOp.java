@@ -0,0 +1,25 @@
+package ast;
+
+public enum BinaryOp {
+    OR("||"),
+    AND("&&"),
+    EQ("=="),
+    NEQ("<>"),
+    LT("<"),
+    GT(">"),
+    ADD("+"),
+    SUB("-"),
+    MUL("*"),
+    DIV("/"),
+    MOD("%");
+
+    private final String symbol;
+
+    BinaryOp(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+}
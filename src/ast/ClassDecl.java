@@ -0,0 +1,16 @@
+package ast;
+
+import java.util.List;
+
+/**
+ * A class declaration. The parent is null when the class does not inherit from another class, and
+ * the members are kept in declaration order. Start line is the line of the class keyword, line and
+ * column locate the class name.
+ */
+public record ClassDecl(String name, String parent, boolean isEntry, List<Member> members, int startLine, int line, int column) {
+
+    public ClassDecl {
+        members = List.copyOf(members);
+    }
+
+}
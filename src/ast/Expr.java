@@ -0,0 +1,83 @@
+package ast;
+
+import java.util.List;
+
+public sealed interface Expr {
+
+    record Binary(BinaryOp op, Expr left, Expr right) implements Expr {
+
+    }
+
+    record Unary(UnaryOp op, Expr operand) implements Expr {
+
+    }
+
+    /**
+     * A call on a receiver, such as a.f(x). Line and column locate the method name.
+     */
+    record MethodCall(Expr receiver, String name, List<Expr> args, int line, int column) implements Expr {
+        public MethodCall {
+            args = List.copyOf(args);
+        }
+    }
+
+    /**
+     * A call without a receiver, such as f(x).
+     */
+    record Call(String name, List<Expr> args) implements Expr {
+        public Call {
+            args = List.copyOf(args);
+        }
+    }
+
+    record FieldAccess(Expr receiver, String name) implements Expr {
+
+    }
+
+    record ArrayAccess(Expr array, Expr index) implements Expr {
+
+    }
+
+    /**
+     * An expression in parentheses. They are kept because an operand in parentheses is not typed
+     * like the bare operand is.
+     */
+    record Parenthesized(Expr expression) implements Expr {
+
+    }
+
+    record Identifier(String name) implements Expr {
+
+    }
+
+    record Self() implements Expr {
+
+    }
+
+    /**
+     * An integer constant, kept as written since it may not fit an int.
+     */
+    record IntLiteral(String value) implements Expr {
+
+    }
+
+    /**
+     * A string constant without its quotes.
+     */
+    record StringLiteral(String value) implements Expr {
+
+    }
+
+    record BoolLiteral(boolean value) implements Expr {
+
+    }
+
+    record NewArray(TypeRef elementType, Expr size) implements Expr {
+
+    }
+
+    record NewObject(String className) implements Expr {
+
+    }
+
+}
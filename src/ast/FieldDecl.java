@@ -0,0 +1,15 @@
+package ast;
+
+import java.util.List;
+
+/**
+ * A field declaration, which may declare several fields of the same type. Start line is the line
+ * the declaration starts on, line and column locate the first field name.
+ */
+public record FieldDecl(String accessModifier, List<String> names, TypeRef type, int startLine, int line, int column) implements Member {
+
+    public FieldDecl {
+        names = List.copyOf(names);
+    }
+
+}
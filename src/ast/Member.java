@@ -0,0 +1,10 @@
+package ast;
+
+public sealed interface Member permits FieldDecl, MethodDecl {
+
+    /**
+     * The declared access modifier, or null when the declaration has none.
+     */
+    String accessModifier();
+
+}
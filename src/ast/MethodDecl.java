@@ -0,0 +1,16 @@
+package ast;
+
+import java.util.List;
+
+/**
+ * A method declaration. Constructors are methods named after their class. Start line is the line
+ * the declaration starts on, line and column locate the method name.
+ */
+public record MethodDecl(String accessModifier, String name, List<Param> params, TypeRef returnType, List<Stmt> body, int startLine, int line, int column) implements Member {
+
+    public MethodDecl {
+        params = List.copyOf(params);
+        body = List.copyOf(body);
+    }
+
+}
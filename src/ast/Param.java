@@ -0,0 +1,5 @@
+package ast;
+
+public record Param(String name, TypeRef type) {
+
+}
@@ -0,0 +1,15 @@
+package ast;
+
+import java.util.List;
+
+/**
+ * Root of the abstract syntax tree. Classes are kept in declaration order, with the entry class
+ * among them. Line is that of the first token of the program.
+ */
+public record Program(List<ClassDecl> classes, int line) {
+
+    public Program {
+        classes = List.copyOf(classes);
+    }
+
+}
@@ -0,0 +1,76 @@
+package ast;
+
+import java.util.List;
+
+public sealed interface Stmt {
+
+    record Block(List<Stmt> statements) implements Stmt {
+        public Block {
+            statements = List.copyOf(statements);
+        }
+    }
+
+    /**
+     * An if statement with its elif branches in order. The else branch is null when there is none.
+     */
+    record If(Expr condition, Stmt then, List<ElseIf> elseIfs, Stmt otherwise, int line) implements Stmt {
+        public If {
+            elseIfs = List.copyOf(elseIfs);
+        }
+    }
+
+    record ElseIf(Expr condition, Stmt then) {
+
+    }
+
+    record While(Expr condition, Stmt body, int line) implements Stmt {
+
+    }
+
+    record Print(Expr value) implements Stmt {
+
+    }
+
+    record Assign(Expr target, Expr value) implements Stmt {
+
+    }
+
+    record Increment(Expr target) implements Stmt {
+
+    }
+
+    record Decrement(Expr target) implements Stmt {
+
+    }
+
+    record Return(Expr value) implements Stmt {
+
+    }
+
+    /**
+     * A var statement, which may define several variables. Start line is the line of the var
+     * keyword, line and column locate the first name.
+     */
+    record VarDef(List<Var> vars, int startLine, int line, int column) implements Stmt {
+        public VarDef {
+            vars = List.copyOf(vars);
+        }
+    }
+
+    record Var(String name, Expr value) {
+
+    }
+
+    record Continue() implements Stmt {
+
+    }
+
+    record Break() implements Stmt {
+
+    }
+
+    record Empty() implements Stmt {
+
+    }
+
+}
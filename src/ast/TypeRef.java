@@ -0,0 +1,13 @@
+package ast;
+
+/**
+ * A type as written in the source: int, bool, string or a class name, optionally as an array.
+ */
+public record TypeRef(String name, boolean isArray) {
+
+    @Override
+    public String toString() {
+        return isArray ? name + "[]" : name;
+    }
+
+}
@@ -0,0 +1,16 @@
+package ast;
+
+public enum UnaryOp {
+    NOT("!"),
+    NEG("-");
+
+    private final String symbol;
+
+    UnaryOp(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+}
@@ -280,61 +280,25 @@ public class ToorlaBaseListener implements ToorlaListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpression(ToorlaParser.ExpressionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpression(ToorlaParser.ExpressionContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { }
+	@Override public void enterExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { }
+	@Override public void exitExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) { }
+	@Override public void enterExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) { }
+	@Override public void exitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -352,121 +316,97 @@ public class ToorlaBaseListener implements ToorlaListener {
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) { }
+	@Override public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) { }
+	@Override public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { }
+	@Override public void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { }
+	@Override public void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) { }
+	@Override public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) { }
+	@Override public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { }
+	@Override public void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { }
+	@Override public void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) { }
+	@Override public void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) { }
+	@Override public void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { }
+	@Override public void enterExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { }
+	@Override public void exitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) { }
+	@Override public void enterExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) { }
+	@Override public void exitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void enterExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) { }
+	@Override public void enterExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation does nothing.</p>
 	 */
-	@Override public void exitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) { }
+	@Override public void exitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
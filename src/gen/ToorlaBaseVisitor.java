@@ -171,35 +171,14 @@ public class ToorlaBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpression(ToorlaParser.ExpressionContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionOr(ToorlaParser.ExpressionOrContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -213,70 +192,56 @@ public class ToorlaBaseVisitor<T> extends AbstractParseTreeVisitor<T> implements
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { return visitChildren(ctx); }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation returns the result of calling
-	 * {@link #visitChildren} on {@code ctx}.</p>
-	 */
-	@Override public T visitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAdd(ToorlaParser.ExpressionAddContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionAnd(ToorlaParser.ExpressionAndContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionOr(ToorlaParser.ExpressionOrContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
 	 * <p>The default implementation returns the result of calling
 	 * {@link #visitChildren} on {@code ctx}.</p>
 	 */
-	@Override public T visitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx) { return visitChildren(ctx); }
+	@Override public T visitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx) { return visitChildren(ctx); }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -227,165 +227,137 @@ public interface ToorlaListener extends ParseTreeListener {
 	 */
 	void exitStatementDec(ToorlaParser.StatementDecContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expression}.
+	 * Enter a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpression(ToorlaParser.ExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expression}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpression(ToorlaParser.ExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionOr}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionOr}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionOrTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionOrTemp}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionAnd}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
+	void enterExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionAnd}.
+	 * Exit a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
+	void exitExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionAndTemp}.
+	 * Enter a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx);
+	void enterExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionAndTemp}.
+	 * Exit a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx);
+	void exitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionEq}.
+	 * Enter a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void enterExpressionEq(ToorlaParser.ExpressionEqContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionEq}.
+	 * Exit a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
 	void exitExpressionEq(ToorlaParser.ExpressionEqContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionEqTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionEqTemp}.
+	 * Enter a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionCmp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionCmp}.
-	 * @param ctx the parse tree
-	 */
-	void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionCmpTemp}.
-	 * @param ctx the parse tree
-	 */
-	void enterExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx);
+	void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionCmpTemp}.
+	 * Exit a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx);
+	void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionAdd}.
+	 * Enter a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
+	void enterExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionAdd}.
+	 * Exit a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
+	void exitExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionAddTemp}.
+	 * Enter a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx);
+	void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionAddTemp}.
+	 * Exit a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx);
+	void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionMultMod}.
+	 * Enter a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
+	void enterExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionMultMod}.
+	 * Exit a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
+	void exitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionMultModTemp}.
+	 * Enter a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx);
+	void enterExpressionOr(ToorlaParser.ExpressionOrContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionMultModTemp}.
+	 * Exit a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx);
+	void exitExpressionOr(ToorlaParser.ExpressionOrContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionUnary}.
+	 * Enter a parse tree produced by the {@code expressionArrayAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
+	void enterExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionUnary}.
+	 * Exit a parse tree produced by the {@code expressionArrayAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
+	void exitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionMethods}.
+	 * Enter a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx);
+	void enterExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionMethods}.
+	 * Exit a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx);
+	void exitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Enter a parse tree produced by {@link ToorlaParser#expressionMethodsTemp}.
+	 * Enter a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void enterExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx);
+	void enterExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx);
 	/**
-	 * Exit a parse tree produced by {@link ToorlaParser#expressionMethodsTemp}.
+	 * Exit a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 */
-	void exitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx);
+	void exitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link ToorlaParser#expressionOther}.
 	 * @param ctx the parse tree
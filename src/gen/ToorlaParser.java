@@ -32,13 +32,8 @@ public class ToorlaParser extends Parser {
 		RULE_statementBlock = 12, RULE_statementContinue = 13, RULE_statementBreak = 14, 
 		RULE_statementReturn = 15, RULE_statementClosedLoop = 16, RULE_statementOpenLoop = 17, 
 		RULE_statementWrite = 18, RULE_statementAssignment = 19, RULE_statementInc = 20, 
-		RULE_statementDec = 21, RULE_expression = 22, RULE_expressionOr = 23, 
-		RULE_expressionOrTemp = 24, RULE_expressionAnd = 25, RULE_expressionAndTemp = 26, 
-		RULE_expressionEq = 27, RULE_expressionEqTemp = 28, RULE_expressionCmp = 29, 
-		RULE_expressionCmpTemp = 30, RULE_expressionAdd = 31, RULE_expressionAddTemp = 32, 
-		RULE_expressionMultMod = 33, RULE_expressionMultModTemp = 34, RULE_expressionUnary = 35, 
-		RULE_expressionMethods = 36, RULE_expressionMethodsTemp = 37, RULE_expressionOther = 38, 
-		RULE_toorlaType = 39, RULE_singleType = 40;
+		RULE_statementDec = 21, RULE_expression = 22, RULE_expressionOther = 23, 
+		RULE_toorlaType = 24, RULE_singleType = 25;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"program", "classDeclaration", "entryClassDeclaration", "fieldDeclaration", 
@@ -46,11 +41,7 @@ public class ToorlaParser extends Parser {
 			"openConditional", "openStatement", "statement", "statementVarDef", "statementBlock", 
 			"statementContinue", "statementBreak", "statementReturn", "statementClosedLoop", 
 			"statementOpenLoop", "statementWrite", "statementAssignment", "statementInc", 
-			"statementDec", "expression", "expressionOr", "expressionOrTemp", "expressionAnd", 
-			"expressionAndTemp", "expressionEq", "expressionEqTemp", "expressionCmp", 
-			"expressionCmpTemp", "expressionAdd", "expressionAddTemp", "expressionMultMod", 
-			"expressionMultModTemp", "expressionUnary", "expressionMethods", "expressionMethodsTemp", 
-			"expressionOther", "toorlaType", "singleType"
+			"statementDec", "expression", "expressionOther", "toorlaType", "singleType"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -60,9 +51,9 @@ public class ToorlaParser extends Parser {
 			null, "'class'", "'inherits'", "':'", "'end'", "'entry'", "'field'", 
 			"','", "';'", "'public'", "'private'", "'function'", "'('", "')'", "'returns'", 
 			"'if'", "'elif'", "'else'", "'var'", "'='", "'begin'", "'continue'", 
-			"'break'", "'return'", "'while'", "'print'", "'++'", "'--'", "'||'", 
-			"'&&'", "'=='", "'<>'", "'<'", "'>'", "'+'", "'-'", "'*'", "'/'", "'%'", 
-			"'!'", "'.'", "'['", "']'", "'new'", "'self'", "'true'", "'false'", "'int'", 
+			"'break'", "'return'", "'while'", "'print'", "'++'", "'--'", "'.'", "'['", 
+			"']'", "'!'", "'-'", "'*'", "'/'", "'%'", "'+'", "'<'", "'>'", "'=='", 
+			"'<>'", "'&&'", "'||'", "'new'", "'self'", "'true'", "'false'", "'int'", 
 			"'bool'", "'string'"
 		};
 	}
@@ -169,37 +160,37 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(85);
+			setState(55);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(82);
+				setState(52);
 				((ProgramContext)_localctx).c1 = classDeclaration();
 				}
 				}
-				setState(87);
+				setState(57);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(88);
+			setState(58);
 			((ProgramContext)_localctx).mainclass = entryClassDeclaration();
-			setState(92);
+			setState(62);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__0) {
 				{
 				{
-				setState(89);
+				setState(59);
 				((ProgramContext)_localctx).c3 = classDeclaration();
 				}
 				}
-				setState(94);
+				setState(64);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(95);
+			setState(65);
 			match(EOF);
 			}
 		}
@@ -260,51 +251,51 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(97);
+			setState(67);
 			match(T__0);
-			setState(98);
+			setState(68);
 			((ClassDeclarationContext)_localctx).className = match(ID);
-			setState(101);
+			setState(71);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__1) {
 				{
-				setState(99);
+				setState(69);
 				match(T__1);
-				setState(100);
+				setState(70);
 				((ClassDeclarationContext)_localctx).classParent = match(ID);
 				}
 			}
 
-			setState(103);
+			setState(73);
 			match(T__2);
-			setState(108);
+			setState(78);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (((_la) & ~0x3f) == 0 && ((1L << _la) & 3648L) != 0) {
 				{
-				setState(106);
+				setState(76);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
 				case 1:
 					{
-					setState(104);
+					setState(74);
 					fieldDeclaration();
 					}
 					break;
 				case 2:
 					{
-					setState(105);
+					setState(75);
 					methodDeclaration();
 					}
 					break;
 				}
 				}
-				setState(110);
+				setState(80);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(111);
+			setState(81);
 			match(T__3);
 			}
 		}
@@ -350,10 +341,10 @@ public class ToorlaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			{
-			setState(113);
+			setState(83);
 			match(T__4);
 			}
-			setState(114);
+			setState(84);
 			classDeclaration();
 			}
 		}
@@ -409,39 +400,39 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(117);
+			setState(87);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__8 || _la==T__9) {
 				{
-				setState(116);
+				setState(86);
 				access_modifier();
 				}
 			}
 
-			setState(119);
+			setState(89);
 			match(T__5);
-			setState(120);
+			setState(90);
 			((FieldDeclarationContext)_localctx).fieldName = match(ID);
-			setState(125);
+			setState(95);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__6) {
 				{
 				{
-				setState(121);
+				setState(91);
 				match(T__6);
-				setState(122);
+				setState(92);
 				((FieldDeclarationContext)_localctx).ii = match(ID);
 				}
 				}
-				setState(127);
+				setState(97);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(128);
+			setState(98);
 			((FieldDeclarationContext)_localctx).fieldType = toorlaType();
-			setState(129);
+			setState(99);
 			match(T__7);
 			}
 		}
@@ -484,7 +475,7 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(131);
+			setState(101);
 			_la = _input.LA(1);
 			if ( !(_la==T__8 || _la==T__9) ) {
 			_errHandler.recoverInline(this);
@@ -562,79 +553,79 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(134);
+			setState(104);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__8 || _la==T__9) {
 				{
-				setState(133);
+				setState(103);
 				((MethodDeclarationContext)_localctx).methodAccessModifier = access_modifier();
 				}
 			}
 
-			setState(136);
+			setState(106);
 			match(T__10);
-			setState(137);
+			setState(107);
 			((MethodDeclarationContext)_localctx).methodName = match(ID);
-			setState(138);
+			setState(108);
 			match(T__11);
-			setState(151);
+			setState(121);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(139);
+				setState(109);
 				((MethodDeclarationContext)_localctx).param1 = match(ID);
-				setState(140);
+				setState(110);
 				match(T__2);
-				setState(141);
+				setState(111);
 				((MethodDeclarationContext)_localctx).typeP1 = toorlaType();
-				setState(148);
+				setState(118);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__6) {
 					{
 					{
-					setState(142);
+					setState(112);
 					match(T__6);
-					setState(143);
+					setState(113);
 					((MethodDeclarationContext)_localctx).param2 = match(ID);
-					setState(144);
+					setState(114);
 					match(T__2);
-					setState(145);
+					setState(115);
 					((MethodDeclarationContext)_localctx).typeP2 = toorlaType();
 					}
 					}
-					setState(150);
+					setState(120);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(153);
+			setState(123);
 			match(T__12);
-			setState(154);
+			setState(124);
 			match(T__13);
-			setState(155);
+			setState(125);
 			((MethodDeclarationContext)_localctx).t = toorlaType();
-			setState(156);
+			setState(126);
 			match(T__2);
-			setState(160);
+			setState(130);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424552513792L) != 0) {
+			while (((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846879412480L) != 0) {
 				{
 				{
-				setState(157);
+				setState(127);
 				((MethodDeclarationContext)_localctx).s = statement();
 				}
 				}
-				setState(162);
+				setState(132);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(163);
+			setState(133);
 			match(T__3);
 			}
 		}
@@ -718,90 +709,90 @@ public class ToorlaParser extends Parser {
 		ClosedStatementContext _localctx = new ClosedStatementContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_closedStatement);
 		try {
-			setState(177);
+			setState(147);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(165);
+				setState(135);
 				((ClosedStatementContext)_localctx).s1 = statementBlock();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(166);
+				setState(136);
 				((ClosedStatementContext)_localctx).conditionalStat = closedConditional();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(167);
+				setState(137);
 				((ClosedStatementContext)_localctx).s3 = statementClosedLoop();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(168);
+				setState(138);
 				((ClosedStatementContext)_localctx).s4 = statementWrite();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(169);
+				setState(139);
 				((ClosedStatementContext)_localctx).s5 = statementAssignment();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(170);
+				setState(140);
 				((ClosedStatementContext)_localctx).s6 = statementReturn();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(171);
+				setState(141);
 				((ClosedStatementContext)_localctx).s7 = statementVarDef();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(172);
+				setState(142);
 				((ClosedStatementContext)_localctx).s8 = statementContinue();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(173);
+				setState(143);
 				((ClosedStatementContext)_localctx).s9 = statementBreak();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(174);
+				setState(144);
 				((ClosedStatementContext)_localctx).incStat = statementInc();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(175);
+				setState(145);
 				((ClosedStatementContext)_localctx).decStat = statementDec();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(176);
+				setState(146);
 				match(T__7);
 				}
 				break;
@@ -863,41 +854,41 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(179);
+			setState(149);
 			match(T__14);
-			setState(180);
+			setState(150);
 			match(T__11);
-			setState(181);
-			((ClosedConditionalContext)_localctx).ifExp = expression();
-			setState(182);
+			setState(151);
+			((ClosedConditionalContext)_localctx).ifExp = expression(0);
+			setState(152);
 			match(T__12);
-			setState(183);
+			setState(153);
 			((ClosedConditionalContext)_localctx).ifStat = closedStatement();
-			setState(192);
+			setState(162);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__15) {
 				{
 				{
-				setState(184);
+				setState(154);
 				match(T__15);
-				setState(185);
+				setState(155);
 				match(T__11);
-				setState(186);
-				((ClosedConditionalContext)_localctx).elifExp = expression();
-				setState(187);
+				setState(156);
+				((ClosedConditionalContext)_localctx).elifExp = expression(0);
+				setState(157);
 				match(T__12);
-				setState(188);
+				setState(158);
 				((ClosedConditionalContext)_localctx).elifStat = closedStatement();
 				}
 				}
-				setState(194);
+				setState(164);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(195);
+			setState(165);
 			match(T__16);
-			setState(196);
+			setState(166);
 			((ClosedConditionalContext)_localctx).elseStmt = closedStatement();
 			}
 		}
@@ -966,21 +957,21 @@ public class ToorlaParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(245);
+			setState(215);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(198);
+				setState(168);
 				match(T__14);
-				setState(199);
+				setState(169);
 				match(T__11);
-				setState(200);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(201);
+				setState(170);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(171);
 				match(T__12);
-				setState(202);
+				setState(172);
 				((OpenConditionalContext)_localctx).ifStat = statement();
 				}
 				break;
@@ -988,49 +979,49 @@ public class ToorlaParser extends Parser {
 				enterOuterAlt(_localctx, 2);
 				{
 				{
-				setState(204);
+				setState(174);
 				match(T__14);
-				setState(205);
+				setState(175);
 				match(T__11);
-				setState(206);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(207);
+				setState(176);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(177);
 				match(T__12);
-				setState(208);
+				setState(178);
 				((OpenConditionalContext)_localctx).secondIfStat = closedStatement();
-				setState(217);
+				setState(187);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(209);
+						setState(179);
 						match(T__15);
-						setState(210);
+						setState(180);
 						match(T__11);
-						setState(211);
-						((OpenConditionalContext)_localctx).elifExp = expression();
-						setState(212);
+						setState(181);
+						((OpenConditionalContext)_localctx).elifExp = expression(0);
+						setState(182);
 						match(T__12);
-						setState(213);
+						setState(183);
 						((OpenConditionalContext)_localctx).elifStat = closedStatement();
 						}
 						} 
 					}
-					setState(219);
+					setState(189);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 				}
-				setState(220);
+				setState(190);
 				match(T__15);
-				setState(221);
+				setState(191);
 				match(T__11);
-				setState(222);
-				((OpenConditionalContext)_localctx).lastElifExp = expression();
-				setState(223);
+				setState(192);
+				((OpenConditionalContext)_localctx).lastElifExp = expression(0);
+				setState(193);
 				match(T__12);
-				setState(224);
+				setState(194);
 				((OpenConditionalContext)_localctx).lastElifStmt = statement();
 				}
 				}
@@ -1039,41 +1030,41 @@ public class ToorlaParser extends Parser {
 				enterOuterAlt(_localctx, 3);
 				{
 				{
-				setState(226);
+				setState(196);
 				match(T__14);
-				setState(227);
+				setState(197);
 				match(T__11);
-				setState(228);
-				((OpenConditionalContext)_localctx).ifExp = expression();
-				setState(229);
+				setState(198);
+				((OpenConditionalContext)_localctx).ifExp = expression(0);
+				setState(199);
 				match(T__12);
-				setState(230);
+				setState(200);
 				((OpenConditionalContext)_localctx).thirdIfStat = closedStatement();
-				setState(239);
+				setState(209);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__15) {
 					{
 					{
-					setState(231);
+					setState(201);
 					match(T__15);
-					setState(232);
+					setState(202);
 					match(T__11);
-					setState(233);
-					((OpenConditionalContext)_localctx).elifExp = expression();
-					setState(234);
+					setState(203);
+					((OpenConditionalContext)_localctx).elifExp = expression(0);
+					setState(204);
 					match(T__12);
-					setState(235);
+					setState(205);
 					((OpenConditionalContext)_localctx).elifStat = closedStatement();
 					}
 					}
-					setState(241);
+					setState(211);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(242);
+				setState(212);
 				match(T__16);
-				setState(243);
+				setState(213);
 				((OpenConditionalContext)_localctx).elseStmt = openStatement();
 				}
 				}
@@ -1124,20 +1115,20 @@ public class ToorlaParser extends Parser {
 		OpenStatementContext _localctx = new OpenStatementContext(_ctx, getState());
 		enterRule(_localctx, 18, RULE_openStatement);
 		try {
-			setState(249);
+			setState(219);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__23:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(247);
+				setState(217);
 				((OpenStatementContext)_localctx).s1 = statementOpenLoop();
 				}
 				break;
 			case T__14:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(248);
+				setState(218);
 				((OpenStatementContext)_localctx).conditionalStat = openConditional();
 				}
 				break;
@@ -1189,20 +1180,20 @@ public class ToorlaParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 20, RULE_statement);
 		try {
-			setState(253);
+			setState(223);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(251);
+				setState(221);
 				((StatementContext)_localctx).s1 = closedStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(252);
+				setState(222);
 				((StatementContext)_localctx).s2 = openStatement();
 				}
 				break;
@@ -1261,35 +1252,35 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(255);
+			setState(225);
 			match(T__17);
-			setState(256);
+			setState(226);
 			((StatementVarDefContext)_localctx).i1 = match(ID);
-			setState(257);
+			setState(227);
 			match(T__18);
-			setState(258);
-			((StatementVarDefContext)_localctx).e1 = expression();
-			setState(265);
+			setState(228);
+			((StatementVarDefContext)_localctx).e1 = expression(0);
+			setState(235);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__6) {
 				{
 				{
-				setState(259);
+				setState(229);
 				match(T__6);
-				setState(260);
+				setState(230);
 				((StatementVarDefContext)_localctx).i2 = match(ID);
-				setState(261);
+				setState(231);
 				match(T__18);
-				setState(262);
-				((StatementVarDefContext)_localctx).e2 = expression();
+				setState(232);
+				((StatementVarDefContext)_localctx).e2 = expression(0);
 				}
 				}
-				setState(267);
+				setState(237);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(268);
+			setState(238);
 			match(T__7);
 			}
 		}
@@ -1339,23 +1330,23 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(270);
+			setState(240);
 			match(T__19);
-			setState(274);
+			setState(244);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424552513792L) != 0) {
+			while (((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846879412480L) != 0) {
 				{
 				{
-				setState(271);
+				setState(241);
 				((StatementBlockContext)_localctx).s = statement();
 				}
 				}
-				setState(276);
+				setState(246);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(277);
+			setState(247);
 			match(T__3);
 			}
 		}
@@ -1398,9 +1389,9 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(279);
+			setState(249);
 			((StatementContinueContext)_localctx).myContinue = match(T__20);
-			setState(280);
+			setState(250);
 			match(T__7);
 			}
 		}
@@ -1443,9 +1434,9 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(282);
+			setState(252);
 			((StatementBreakContext)_localctx).myBreak = match(T__21);
-			setState(283);
+			setState(253);
 			match(T__7);
 			}
 		}
@@ -1492,11 +1483,11 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(285);
+			setState(255);
 			((StatementReturnContext)_localctx).myReturn = match(T__22);
-			setState(286);
-			((StatementReturnContext)_localctx).e = expression();
-			setState(287);
+			setState(256);
+			((StatementReturnContext)_localctx).e = expression(0);
+			setState(257);
 			match(T__7);
 			}
 		}
@@ -1546,15 +1537,15 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(259);
 			match(T__23);
-			setState(290);
+			setState(260);
 			match(T__11);
-			setState(291);
-			((StatementClosedLoopContext)_localctx).e = expression();
-			setState(292);
+			setState(261);
+			((StatementClosedLoopContext)_localctx).e = expression(0);
+			setState(262);
 			match(T__12);
-			setState(293);
+			setState(263);
 			((StatementClosedLoopContext)_localctx).s = closedStatement();
 			}
 		}
@@ -1604,15 +1595,15 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(295);
+			setState(265);
 			match(T__23);
-			setState(296);
+			setState(266);
 			match(T__11);
-			setState(297);
-			((StatementOpenLoopContext)_localctx).e = expression();
-			setState(298);
+			setState(267);
+			((StatementOpenLoopContext)_localctx).e = expression(0);
+			setState(268);
 			match(T__12);
-			setState(299);
+			setState(269);
 			((StatementOpenLoopContext)_localctx).s = openStatement();
 			}
 		}
@@ -1659,15 +1650,15 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(301);
+			setState(271);
 			((StatementWriteContext)_localctx).printLine = match(T__24);
-			setState(302);
+			setState(272);
 			match(T__11);
-			setState(303);
-			((StatementWriteContext)_localctx).e = expression();
-			setState(304);
+			setState(273);
+			((StatementWriteContext)_localctx).e = expression(0);
+			setState(274);
 			match(T__12);
-			setState(305);
+			setState(275);
 			match(T__7);
 			}
 		}
@@ -1718,13 +1709,13 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(307);
-			((StatementAssignmentContext)_localctx).left = expression();
-			setState(308);
+			setState(277);
+			((StatementAssignmentContext)_localctx).left = expression(0);
+			setState(278);
 			((StatementAssignmentContext)_localctx).assignOp = match(T__18);
-			setState(309);
-			((StatementAssignmentContext)_localctx).right = expression();
-			setState(310);
+			setState(279);
+			((StatementAssignmentContext)_localctx).right = expression(0);
+			setState(280);
 			match(T__7);
 			}
 		}
@@ -1771,11 +1762,11 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(312);
-			((StatementIncContext)_localctx).lvalExpr = expression();
-			setState(313);
+			setState(282);
+			((StatementIncContext)_localctx).lvalExpr = expression(0);
+			setState(283);
 			((StatementIncContext)_localctx).incOp = match(T__25);
-			setState(314);
+			setState(284);
 			match(T__7);
 			}
 		}
@@ -1822,11 +1813,11 @@ public class ToorlaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(316);
-			((StatementDecContext)_localctx).lvalExpr = expression();
-			setState(317);
+			setState(286);
+			((StatementDecContext)_localctx).lvalExpr = expression(0);
+			setState(287);
 			((StatementDecContext)_localctx).decOp = match(T__26);
-			setState(318);
+			setState(288);
 			match(T__7);
 			}
 		}
@@ -1843,190 +1834,129 @@ public class ToorlaParser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class ExpressionContext extends ParserRuleContext {
-		public ExpressionOrContext e;
-		public ExpressionOrContext expressionOr() {
-			return getRuleContext(ExpressionOrContext.class,0);
-		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_expression; }
+	 
+		public ExpressionContext() { }
+		public void copyFrom(ExpressionContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionAddContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token addOp;
+		public Token subOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ExpressionAddContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpression(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionAdd(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpression(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionAdd(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpression(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionAdd(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionContext expression() throws RecognitionException {
-		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_expression);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(320);
-			((ExpressionContext)_localctx).e = expressionOr();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionOrContext extends ParserRuleContext {
-		public ExpressionAndContext a;
-		public ExpressionOrTempContext ot;
-		public ExpressionAndContext expressionAnd() {
-			return getRuleContext(ExpressionAndContext.class,0);
-		}
-		public ExpressionOrTempContext expressionOrTemp() {
-			return getRuleContext(ExpressionOrTempContext.class,0);
-		}
-		public ExpressionOrContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+	public static class ExpressionFieldAccessContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token dotOp;
+		public Token ii;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionOr; }
+		public TerminalNode ID() { return getToken(ToorlaParser.ID, 0); }
+		public ExpressionFieldAccessContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionOr(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionFieldAccess(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionOr(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionFieldAccess(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionOr(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionFieldAccess(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionOrContext expressionOr() throws RecognitionException {
-		ExpressionOrContext _localctx = new ExpressionOrContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_expressionOr);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(322);
-			((ExpressionOrContext)_localctx).a = expressionAnd();
-			setState(323);
-			((ExpressionOrContext)_localctx).ot = expressionOrTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionOrTempContext extends ParserRuleContext {
-		public Token orOp;
-		public ExpressionAndContext a;
-		public ExpressionOrTempContext ot;
-		public ExpressionAndContext expressionAnd() {
-			return getRuleContext(ExpressionAndContext.class,0);
-		}
-		public ExpressionOrTempContext expressionOrTemp() {
-			return getRuleContext(ExpressionOrTempContext.class,0);
+	public static class ExpressionEqContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token eqOp;
+		public Token neqOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionOrTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionOrTemp; }
+		public ExpressionEqContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionOrTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionEq(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionOrTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionEq(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionOrTemp(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionEq(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionOrTempContext expressionOrTemp() throws RecognitionException {
-		ExpressionOrTempContext _localctx = new ExpressionOrTempContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_expressionOrTemp);
-		try {
-			setState(330);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__27:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(325);
-				((ExpressionOrTempContext)_localctx).orOp = match(T__27);
-				setState(326);
-				((ExpressionOrTempContext)_localctx).a = expressionAnd();
-				setState(327);
-				((ExpressionOrTempContext)_localctx).ot = expressionOrTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionUnaryContext extends ExpressionContext {
+		public Token notOp;
+		public Token negOp;
+		public ExpressionContext u;
+		public ExpressionContext expression() {
+			return getRuleContext(ExpressionContext.class,0);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public ExpressionUnaryContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionUnary(this);
 		}
-		finally {
-			exitRule();
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionUnary(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionUnary(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAndContext extends ParserRuleContext {
-		public ExpressionEqContext e;
-		public ExpressionAndTempContext at;
-		public ExpressionEqContext expressionEq() {
-			return getRuleContext(ExpressionEqContext.class,0);
-		}
-		public ExpressionAndTempContext expressionAndTemp() {
-			return getRuleContext(ExpressionAndTempContext.class,0);
+	public static class ExpressionAndContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token andOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionAndContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionAnd; }
+		public ExpressionAndContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
 			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionAnd(this);
@@ -2041,994 +1971,470 @@ public class ToorlaParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionAndContext expressionAnd() throws RecognitionException {
-		ExpressionAndContext _localctx = new ExpressionAndContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_expressionAnd);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(332);
-			((ExpressionAndContext)_localctx).e = expressionEq();
-			setState(333);
-			((ExpressionAndContext)_localctx).at = expressionAndTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAndTempContext extends ParserRuleContext {
-		public Token andOp;
-		public ExpressionEqContext e;
-		public ExpressionAndTempContext at;
-		public ExpressionEqContext expressionEq() {
-			return getRuleContext(ExpressionEqContext.class,0);
-		}
-		public ExpressionAndTempContext expressionAndTemp() {
-			return getRuleContext(ExpressionAndTempContext.class,0);
+	public static class ExpressionMultModContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token mulOp;
+		public Token divOp;
+		public Token modOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionAndTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionAndTemp; }
+		public ExpressionMultModContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionAndTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMultMod(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionAndTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMultMod(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionAndTemp(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMultMod(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionAndTempContext expressionAndTemp() throws RecognitionException {
-		ExpressionAndTempContext _localctx = new ExpressionAndTempContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_expressionAndTemp);
-		try {
-			setState(340);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__28:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(335);
-				((ExpressionAndTempContext)_localctx).andOp = match(T__28);
-				setState(336);
-				((ExpressionAndTempContext)_localctx).e = expressionEq();
-				setState(337);
-				((ExpressionAndTempContext)_localctx).at = expressionAndTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionEqContext extends ParserRuleContext {
-		public ExpressionCmpContext c;
-		public ExpressionEqTempContext et;
-		public ExpressionCmpContext expressionCmp() {
-			return getRuleContext(ExpressionCmpContext.class,0);
-		}
-		public ExpressionEqTempContext expressionEqTemp() {
-			return getRuleContext(ExpressionEqTempContext.class,0);
-		}
-		public ExpressionEqContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionEq; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionEq(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionEq(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionEq(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionEqContext expressionEq() throws RecognitionException {
-		ExpressionEqContext _localctx = new ExpressionEqContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_expressionEq);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(342);
-			((ExpressionEqContext)_localctx).c = expressionCmp();
-			setState(343);
-			((ExpressionEqContext)_localctx).et = expressionEqTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionEqTempContext extends ParserRuleContext {
-		public Token eqOp;
-		public Token neqOp;
-		public ExpressionCmpContext c;
-		public ExpressionEqTempContext et;
-		public ExpressionCmpContext expressionCmp() {
-			return getRuleContext(ExpressionCmpContext.class,0);
-		}
-		public ExpressionEqTempContext expressionEqTemp() {
-			return getRuleContext(ExpressionEqTempContext.class,0);
-		}
-		public ExpressionEqTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionEqTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionEqTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionEqTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionEqTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionEqTempContext expressionEqTemp() throws RecognitionException {
-		ExpressionEqTempContext _localctx = new ExpressionEqTempContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_expressionEqTemp);
-		try {
-			setState(353);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__29:
-			case T__30:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(347);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__29:
-					{
-					setState(345);
-					((ExpressionEqTempContext)_localctx).eqOp = match(T__29);
-					}
-					break;
-				case T__30:
-					{
-					setState(346);
-					((ExpressionEqTempContext)_localctx).neqOp = match(T__30);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(349);
-				((ExpressionEqTempContext)_localctx).c = expressionCmp();
-				setState(350);
-				((ExpressionEqTempContext)_localctx).et = expressionEqTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionCmpContext extends ParserRuleContext {
-		public ExpressionAddContext a;
-		public ExpressionCmpTempContext ct;
-		public ExpressionAddContext expressionAdd() {
-			return getRuleContext(ExpressionAddContext.class,0);
-		}
-		public ExpressionCmpTempContext expressionCmpTemp() {
-			return getRuleContext(ExpressionCmpTempContext.class,0);
-		}
-		public ExpressionCmpContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionCmp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionCmp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionCmp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionCmp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionCmpContext expressionCmp() throws RecognitionException {
-		ExpressionCmpContext _localctx = new ExpressionCmpContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_expressionCmp);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(355);
-			((ExpressionCmpContext)_localctx).a = expressionAdd();
-			setState(356);
-			((ExpressionCmpContext)_localctx).ct = expressionCmpTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionCmpTempContext extends ParserRuleContext {
+	public static class ExpressionCmpContext extends ExpressionContext {
+		public ExpressionContext l;
 		public Token ltOp;
 		public Token gtOp;
-		public ExpressionAddContext a;
-		public ExpressionCmpTempContext ct;
-		public ExpressionAddContext expressionAdd() {
-			return getRuleContext(ExpressionAddContext.class,0);
-		}
-		public ExpressionCmpTempContext expressionCmpTemp() {
-			return getRuleContext(ExpressionCmpTempContext.class,0);
-		}
-		public ExpressionCmpTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionCmpTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionCmpTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionCmpTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionCmpTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionCmpTempContext expressionCmpTemp() throws RecognitionException {
-		ExpressionCmpTempContext _localctx = new ExpressionCmpTempContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_expressionCmpTemp);
-		try {
-			setState(366);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__31:
-			case T__32:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(360);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__31:
-					{
-					setState(358);
-					((ExpressionCmpTempContext)_localctx).ltOp = match(T__31);
-					}
-					break;
-				case T__32:
-					{
-					setState(359);
-					((ExpressionCmpTempContext)_localctx).gtOp = match(T__32);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(362);
-				((ExpressionCmpTempContext)_localctx).a = expressionAdd();
-				setState(363);
-				((ExpressionCmpTempContext)_localctx).ct = expressionCmpTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAddContext extends ParserRuleContext {
-		public ExpressionMultModContext m;
-		public ExpressionAddTempContext at;
-		public ExpressionMultModContext expressionMultMod() {
-			return getRuleContext(ExpressionMultModContext.class,0);
-		}
-		public ExpressionAddTempContext expressionAddTemp() {
-			return getRuleContext(ExpressionAddTempContext.class,0);
-		}
-		public ExpressionAddContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionAdd; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionAdd(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionAdd(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionAdd(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionAddContext expressionAdd() throws RecognitionException {
-		ExpressionAddContext _localctx = new ExpressionAddContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_expressionAdd);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(368);
-			((ExpressionAddContext)_localctx).m = expressionMultMod();
-			setState(369);
-			((ExpressionAddContext)_localctx).at = expressionAddTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionAddTempContext extends ParserRuleContext {
-		public Token addOp;
-		public Token subOp;
-		public ExpressionMultModContext m;
-		public ExpressionAddTempContext at;
-		public ExpressionMultModContext expressionMultMod() {
-			return getRuleContext(ExpressionMultModContext.class,0);
-		}
-		public ExpressionAddTempContext expressionAddTemp() {
-			return getRuleContext(ExpressionAddTempContext.class,0);
-		}
-		public ExpressionAddTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionAddTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionAddTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionAddTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionAddTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionAddTempContext expressionAddTemp() throws RecognitionException {
-		ExpressionAddTempContext _localctx = new ExpressionAddTempContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_expressionAddTemp);
-		try {
-			setState(379);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__33:
-			case T__34:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(373);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__33:
-					{
-					setState(371);
-					((ExpressionAddTempContext)_localctx).addOp = match(T__33);
-					}
-					break;
-				case T__34:
-					{
-					setState(372);
-					((ExpressionAddTempContext)_localctx).subOp = match(T__34);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(375);
-				((ExpressionAddTempContext)_localctx).m = expressionMultMod();
-				setState(376);
-				((ExpressionAddTempContext)_localctx).at = expressionAddTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__31:
-			case T__32:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMultModContext extends ParserRuleContext {
-		public ExpressionUnaryContext u;
-		public ExpressionMultModTempContext mt;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMultModTempContext expressionMultModTemp() {
-			return getRuleContext(ExpressionMultModTempContext.class,0);
-		}
-		public ExpressionMultModContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMultMod; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMultMod(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMultMod(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMultMod(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionMultModContext expressionMultMod() throws RecognitionException {
-		ExpressionMultModContext _localctx = new ExpressionMultModContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_expressionMultMod);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(381);
-			((ExpressionMultModContext)_localctx).u = expressionUnary();
-			setState(382);
-			((ExpressionMultModContext)_localctx).mt = expressionMultModTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMultModTempContext extends ParserRuleContext {
-		public Token mulOp;
-		public Token divOp;
-		public Token modOp;
-		public ExpressionUnaryContext u;
-		public ExpressionMultModTempContext mt;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMultModTempContext expressionMultModTemp() {
-			return getRuleContext(ExpressionMultModTempContext.class,0);
-		}
-		public ExpressionMultModTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMultModTemp; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMultModTemp(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMultModTemp(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMultModTemp(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final ExpressionMultModTempContext expressionMultModTemp() throws RecognitionException {
-		ExpressionMultModTempContext _localctx = new ExpressionMultModTempContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_expressionMultModTemp);
-		try {
-			setState(393);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__35:
-			case T__36:
-			case T__37:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(387);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__35:
-					{
-					setState(384);
-					((ExpressionMultModTempContext)_localctx).mulOp = match(T__35);
-					}
-					break;
-				case T__36:
-					{
-					setState(385);
-					((ExpressionMultModTempContext)_localctx).divOp = match(T__36);
-					}
-					break;
-				case T__37:
-					{
-					setState(386);
-					((ExpressionMultModTempContext)_localctx).modOp = match(T__37);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(389);
-				((ExpressionMultModTempContext)_localctx).u = expressionUnary();
-				setState(390);
-				((ExpressionMultModTempContext)_localctx).mt = expressionMultModTemp();
-				}
-				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__31:
-			case T__32:
-			case T__33:
-			case T__34:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
-				{
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		finally {
-			exitRule();
+		public ExpressionCmpContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionCmp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionCmp(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionCmp(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionUnaryContext extends ParserRuleContext {
-		public Token notOp;
-		public Token negOp;
-		public ExpressionUnaryContext u;
-		public ExpressionMethodsContext m;
-		public ExpressionUnaryContext expressionUnary() {
-			return getRuleContext(ExpressionUnaryContext.class,0);
-		}
-		public ExpressionMethodsContext expressionMethods() {
-			return getRuleContext(ExpressionMethodsContext.class,0);
+	public static class ExpressionOrContext extends ExpressionContext {
+		public ExpressionContext l;
+		public Token orOp;
+		public ExpressionContext r;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		public ExpressionUnaryContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		@Override public int getRuleIndex() { return RULE_expressionUnary; }
+		public ExpressionOrContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionUnary(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionOr(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionUnary(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionOr(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionUnary(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionOr(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionUnaryContext expressionUnary() throws RecognitionException {
-		ExpressionUnaryContext _localctx = new ExpressionUnaryContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_expressionUnary);
-		try {
-			setState(401);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case T__34:
-			case T__38:
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(397);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case T__38:
-					{
-					setState(395);
-					((ExpressionUnaryContext)_localctx).notOp = match(T__38);
-					}
-					break;
-				case T__34:
-					{
-					setState(396);
-					((ExpressionUnaryContext)_localctx).negOp = match(T__34);
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(399);
-				((ExpressionUnaryContext)_localctx).u = expressionUnary();
-				}
-				break;
-			case T__11:
-			case T__42:
-			case T__43:
-			case T__44:
-			case T__45:
-			case CONST_NUM:
-			case CONST_STR:
-			case ID:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(400);
-				((ExpressionUnaryContext)_localctx).m = expressionMethods();
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+	@SuppressWarnings("CheckReturnValue")
+	public static class ExpressionArrayAccessContext extends ExpressionContext {
+		public ExpressionContext e;
+		public Token leftBrace;
+		public ExpressionContext e3;
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
-		finally {
-			exitRule();
+		public ExpressionArrayAccessContext(ExpressionContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionArrayAccess(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionArrayAccess(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionArrayAccess(this);
+			else return visitor.visitChildren(this);
 		}
-		return _localctx;
 	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMethodsContext extends ParserRuleContext {
+	public static class ExpressionPrimaryContext extends ExpressionContext {
 		public ExpressionOtherContext o;
-		public ExpressionMethodsTempContext mt;
 		public ExpressionOtherContext expressionOther() {
 			return getRuleContext(ExpressionOtherContext.class,0);
 		}
-		public ExpressionMethodsTempContext expressionMethodsTemp() {
-			return getRuleContext(ExpressionMethodsTempContext.class,0);
-		}
-		public ExpressionMethodsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMethods; }
+		public ExpressionPrimaryContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMethods(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionPrimary(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMethods(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionPrimary(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMethods(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionPrimary(this);
 			else return visitor.visitChildren(this);
 		}
 	}
-
-	public final ExpressionMethodsContext expressionMethods() throws RecognitionException {
-		ExpressionMethodsContext _localctx = new ExpressionMethodsContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_expressionMethods);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(403);
-			((ExpressionMethodsContext)_localctx).o = expressionOther();
-			setState(404);
-			((ExpressionMethodsContext)_localctx).mt = expressionMethodsTemp();
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
 	@SuppressWarnings("CheckReturnValue")
-	public static class ExpressionMethodsTempContext extends ParserRuleContext {
+	public static class ExpressionMethodCallContext extends ExpressionContext {
+		public ExpressionContext e;
 		public Token dotOp;
 		public Token i;
 		public ExpressionContext e1;
 		public ExpressionContext e2;
-		public Token ii;
-		public Token leftBrace;
-		public ExpressionContext e3;
-		public ExpressionMethodsTempContext mt;
-		public ExpressionMethodsTempContext expressionMethodsTemp() {
-			return getRuleContext(ExpressionMethodsTempContext.class,0);
-		}
-		public TerminalNode ID() { return getToken(ToorlaParser.ID, 0); }
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
 		public ExpressionContext expression(int i) {
 			return getRuleContext(ExpressionContext.class,i);
 		}
-		public ExpressionMethodsTempContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_expressionMethodsTemp; }
+		public TerminalNode ID() { return getToken(ToorlaParser.ID, 0); }
+		public ExpressionMethodCallContext(ExpressionContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMethodsTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).enterExpressionMethodCall(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMethodsTemp(this);
+			if ( listener instanceof ToorlaListener ) ((ToorlaListener)listener).exitExpressionMethodCall(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMethodsTemp(this);
+			if ( visitor instanceof ToorlaVisitor ) return ((ToorlaVisitor<? extends T>)visitor).visitExpressionMethodCall(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final ExpressionMethodsTempContext expressionMethodsTemp() throws RecognitionException {
-		ExpressionMethodsTempContext _localctx = new ExpressionMethodsTempContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_expressionMethodsTemp);
+	public final ExpressionContext expression() throws RecognitionException {
+		return expression(0);
+	}
+
+	private ExpressionContext expression(int _p) throws RecognitionException {
+		ParserRuleContext _parentctx = _ctx;
+		int _parentState = getState();
+		ExpressionContext _localctx = new ExpressionContext(_ctx, _parentState);
+		ExpressionContext _prevctx = _localctx;
+		int _startState = 44;
+		enterRecursionRule(_localctx, 44, RULE_expression, _p);
 		int _la;
 		try {
-			setState(430);
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(297);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case T__39:
-			case T__40:
-				enterOuterAlt(_localctx, 1);
+			case T__30:
+			case T__31:
 				{
-				setState(426);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
-				case 1:
-					{
-					setState(406);
-					((ExpressionMethodsTempContext)_localctx).dotOp = match(T__39);
-					setState(407);
-					((ExpressionMethodsTempContext)_localctx).i = match(ID);
-					setState(408);
-					match(T__11);
-					setState(417);
-					_errHandler.sync(this);
-					_la = _input.LA(1);
-					if (((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0) {
-						{
-						setState(409);
-						((ExpressionMethodsTempContext)_localctx).e1 = expression();
-						setState(414);
-						_errHandler.sync(this);
-						_la = _input.LA(1);
-						while (_la==T__6) {
-							{
-							{
-							setState(410);
-							match(T__6);
-							setState(411);
-							((ExpressionMethodsTempContext)_localctx).e2 = expression();
-							}
-							}
-							setState(416);
-							_errHandler.sync(this);
-							_la = _input.LA(1);
-						}
-						}
-					}
+				_localctx = new ExpressionUnaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
 
-					setState(419);
-					match(T__12);
-					}
-					break;
-				case 2:
+				setState(293);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case T__30:
 					{
-					setState(420);
-					((ExpressionMethodsTempContext)_localctx).dotOp = match(T__39);
-					setState(421);
-					((ExpressionMethodsTempContext)_localctx).ii = match(ID);
+					setState(291);
+					((ExpressionUnaryContext)_localctx).notOp = match(T__30);
 					}
 					break;
-				case 3:
+				case T__31:
 					{
-					setState(422);
-					((ExpressionMethodsTempContext)_localctx).leftBrace = match(T__40);
-					setState(423);
-					((ExpressionMethodsTempContext)_localctx).e3 = expression();
-					setState(424);
-					match(T__41);
+					setState(292);
+					((ExpressionUnaryContext)_localctx).negOp = match(T__31);
 					}
 					break;
+				default:
+					throw new NoViableAltException(this);
 				}
-				setState(428);
-				((ExpressionMethodsTempContext)_localctx).mt = expressionMethodsTemp();
+				setState(295);
+				((ExpressionUnaryContext)_localctx).u = expression(8);
 				}
 				break;
-			case T__6:
-			case T__7:
-			case T__12:
-			case T__18:
-			case T__25:
-			case T__26:
-			case T__27:
-			case T__28:
-			case T__29:
-			case T__30:
-			case T__31:
-			case T__32:
-			case T__33:
-			case T__34:
-			case T__35:
-			case T__36:
-			case T__37:
-			case T__41:
-				enterOuterAlt(_localctx, 2);
+			case T__11:
+			case T__42:
+			case T__43:
+			case T__44:
+			case T__45:
+			case CONST_NUM:
+			case CONST_STR:
+			case ID:
 				{
+				_localctx = new ExpressionPrimaryContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(296);
+				((ExpressionPrimaryContext)_localctx).o = expressionOther();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
+			_ctx.stop = _input.LT(-1);
+			setState(355);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					if ( _parseListeners!=null ) triggerExitRuleEvent();
+					_prevctx = _localctx;
+					{
+					setState(353);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+					case 1:
+						{
+						_localctx = new ExpressionMultModContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMultModContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(299);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(303);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__32:
+							{
+							setState(300);
+							((ExpressionMultModContext)_localctx).mulOp = match(T__32);
+							}
+							break;
+						case T__33:
+							{
+							setState(301);
+							((ExpressionMultModContext)_localctx).divOp = match(T__33);
+							}
+							break;
+						case T__34:
+							{
+							setState(302);
+							((ExpressionMultModContext)_localctx).modOp = match(T__34);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(305);
+						((ExpressionMultModContext)_localctx).r = expression(8);
+						}
+						break;
+					case 2:
+						{
+						_localctx = new ExpressionAddContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAddContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(306);
+						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
+						setState(309);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__35:
+							{
+							setState(307);
+							((ExpressionAddContext)_localctx).addOp = match(T__35);
+							}
+							break;
+						case T__31:
+							{
+							setState(308);
+							((ExpressionAddContext)_localctx).subOp = match(T__31);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(311);
+						((ExpressionAddContext)_localctx).r = expression(7);
+						}
+						break;
+					case 3:
+						{
+						_localctx = new ExpressionCmpContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionCmpContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(312);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(315);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__36:
+							{
+							setState(313);
+							((ExpressionCmpContext)_localctx).ltOp = match(T__36);
+							}
+							break;
+						case T__37:
+							{
+							setState(314);
+							((ExpressionCmpContext)_localctx).gtOp = match(T__37);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(317);
+						((ExpressionCmpContext)_localctx).r = expression(6);
+						}
+						break;
+					case 4:
+						{
+						_localctx = new ExpressionEqContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionEqContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(318);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(321);
+						_errHandler.sync(this);
+						switch (_input.LA(1)) {
+						case T__38:
+							{
+							setState(319);
+							((ExpressionEqContext)_localctx).eqOp = match(T__38);
+							}
+							break;
+						case T__39:
+							{
+							setState(320);
+							((ExpressionEqContext)_localctx).neqOp = match(T__39);
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(323);
+						((ExpressionEqContext)_localctx).r = expression(5);
+						}
+						break;
+					case 5:
+						{
+						_localctx = new ExpressionAndContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionAndContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(324);
+						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
+						setState(325);
+						((ExpressionAndContext)_localctx).andOp = match(T__40);
+						setState(326);
+						((ExpressionAndContext)_localctx).r = expression(4);
+						}
+						break;
+					case 6:
+						{
+						_localctx = new ExpressionOrContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionOrContext)_localctx).l = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(327);
+						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
+						setState(328);
+						((ExpressionOrContext)_localctx).orOp = match(T__41);
+						setState(329);
+						((ExpressionOrContext)_localctx).r = expression(3);
+						}
+						break;
+					case 7:
+						{
+						_localctx = new ExpressionMethodCallContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionMethodCallContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(330);
+						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
+						setState(331);
+						((ExpressionMethodCallContext)_localctx).dotOp = match(T__27);
+						setState(332);
+						((ExpressionMethodCallContext)_localctx).i = match(ID);
+						setState(333);
+						match(T__11);
+						setState(342);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0) {
+							{
+							setState(334);
+							((ExpressionMethodCallContext)_localctx).e1 = expression(0);
+							setState(339);
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+							while (_la==T__6) {
+								{
+								{
+								setState(335);
+								match(T__6);
+								setState(336);
+								((ExpressionMethodCallContext)_localctx).e2 = expression(0);
+								}
+								}
+								setState(341);
+								_errHandler.sync(this);
+								_la = _input.LA(1);
+							}
+							}
+						}
+
+						setState(344);
+						match(T__12);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new ExpressionFieldAccessContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionFieldAccessContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(345);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(346);
+						((ExpressionFieldAccessContext)_localctx).dotOp = match(T__27);
+						setState(347);
+						((ExpressionFieldAccessContext)_localctx).ii = match(ID);
+						}
+						break;
+					case 9:
+						{
+						_localctx = new ExpressionArrayAccessContext(new ExpressionContext(_parentctx, _parentState));
+						((ExpressionArrayAccessContext)_localctx).e = _prevctx;
+						pushNewRecursionContext(_localctx, _startState, RULE_expression);
+						setState(348);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(349);
+						((ExpressionArrayAccessContext)_localctx).leftBrace = match(T__28);
+						setState(350);
+						((ExpressionArrayAccessContext)_localctx).e3 = expression(0);
+						setState(351);
+						match(T__29);
+						}
+						break;
+					}
+					} 
+				}
+				setState(357);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			}
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -3036,7 +2442,7 @@ public class ToorlaParser extends Parser {
 			_errHandler.recover(this, re);
 		}
 		finally {
-			exitRule();
+			unrollRecursionContexts(_parentctx);
 		}
 		return _localctx;
 	}
@@ -3094,140 +2500,140 @@ public class ToorlaParser extends Parser {
 
 	public final ExpressionOtherContext expressionOther() throws RecognitionException {
 		ExpressionOtherContext _localctx = new ExpressionOtherContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_expressionOther);
+		enterRule(_localctx, 46, RULE_expressionOther);
 		int _la;
 		try {
-			setState(470);
+			setState(396);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(432);
+				setState(358);
 				((ExpressionOtherContext)_localctx).n = match(CONST_NUM);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(433);
+				setState(359);
 				((ExpressionOtherContext)_localctx).s = match(CONST_STR);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(434);
+				setState(360);
 				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
-				setState(435);
+				setState(361);
 				((ExpressionOtherContext)_localctx).st = singleType();
-				setState(436);
-				((ExpressionOtherContext)_localctx).leftBrace = match(T__40);
-				setState(437);
-				((ExpressionOtherContext)_localctx).size = expression();
-				setState(438);
-				match(T__41);
+				setState(362);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(363);
+				((ExpressionOtherContext)_localctx).size = expression(0);
+				setState(364);
+				match(T__29);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(440);
+				setState(366);
 				((ExpressionOtherContext)_localctx).newModifier = match(T__42);
-				setState(441);
+				setState(367);
 				((ExpressionOtherContext)_localctx).i = match(ID);
-				setState(442);
+				setState(368);
 				match(T__11);
-				setState(443);
+				setState(369);
 				match(T__12);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(444);
+				setState(370);
 				((ExpressionOtherContext)_localctx).selfModifier = match(T__43);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(445);
+				setState(371);
 				((ExpressionOtherContext)_localctx).trueModifier = match(T__44);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(446);
+				setState(372);
 				((ExpressionOtherContext)_localctx).falseModifier = match(T__45);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(447);
+				setState(373);
 				((ExpressionOtherContext)_localctx).i1 = match(ID);
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(448);
+				setState(374);
 				((ExpressionOtherContext)_localctx).i2 = match(ID);
-				setState(449);
-				((ExpressionOtherContext)_localctx).leftBrace = match(T__40);
-				setState(450);
-				((ExpressionOtherContext)_localctx).e = expression();
-				setState(451);
-				match(T__41);
+				setState(375);
+				((ExpressionOtherContext)_localctx).leftBrace = match(T__28);
+				setState(376);
+				((ExpressionOtherContext)_localctx).e = expression(0);
+				setState(377);
+				match(T__29);
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(453);
+				setState(379);
 				((ExpressionOtherContext)_localctx).leftPara = match(T__11);
-				setState(454);
-				((ExpressionOtherContext)_localctx).ee = expression();
-				setState(455);
+				setState(380);
+				((ExpressionOtherContext)_localctx).ee = expression(0);
+				setState(381);
 				match(T__12);
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(457);
+				setState(383);
 				((ExpressionOtherContext)_localctx).i3 = match(ID);
-				setState(458);
+				setState(384);
 				match(T__11);
-				setState(467);
+				setState(393);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if (((_la) & ~0x3f) == 0 && ((1L << _la) & 12517424486158336L) != 0) {
+				if (((_la) & ~0x3f) == 0 && ((1L << _la) & 12516846813057024L) != 0) {
 					{
-					setState(459);
-					((ExpressionOtherContext)_localctx).e3 = expression();
-					setState(464);
+					setState(385);
+					((ExpressionOtherContext)_localctx).e3 = expression(0);
+					setState(390);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__6) {
 						{
 						{
-						setState(460);
+						setState(386);
 						match(T__6);
-						setState(461);
-						((ExpressionOtherContext)_localctx).e4 = expression();
+						setState(387);
+						((ExpressionOtherContext)_localctx).e4 = expression(0);
 						}
 						}
-						setState(466);
+						setState(392);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(469);
+				setState(395);
 				match(T__12);
 				}
 				break;
@@ -3271,22 +2677,22 @@ public class ToorlaParser extends Parser {
 
 	public final ToorlaTypeContext toorlaType() throws RecognitionException {
 		ToorlaTypeContext _localctx = new ToorlaTypeContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_toorlaType);
+		enterRule(_localctx, 48, RULE_toorlaType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(472);
+			setState(398);
 			((ToorlaTypeContext)_localctx).st = singleType();
-			setState(475);
+			setState(401);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==T__40) {
+			if (_la==T__28) {
 				{
-				setState(473);
-				match(T__40);
-				setState(474);
-				match(T__41);
+				setState(399);
+				match(T__28);
+				setState(400);
+				match(T__29);
 				}
 			}
 
@@ -3328,34 +2734,34 @@ public class ToorlaParser extends Parser {
 
 	public final SingleTypeContext singleType() throws RecognitionException {
 		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_singleType);
+		enterRule(_localctx, 50, RULE_singleType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(481);
+			setState(407);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__46:
 				{
-				setState(477);
+				setState(403);
 				match(T__46);
 				}
 				break;
 			case T__47:
 				{
-				setState(478);
+				setState(404);
 				match(T__47);
 				}
 				break;
 			case T__48:
 				{
-				setState(479);
+				setState(405);
 				match(T__48);
 				}
 				break;
 			case ID:
 				{
-				setState(480);
+				setState(406);
 				((SingleTypeContext)_localctx).i = match(ID);
 				}
 				break;
@@ -3375,8 +2781,39 @@ public class ToorlaParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 22:
+			return expression_sempred((ExpressionContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean expression_sempred(ExpressionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return precpred(_ctx, 7);
+		case 1:
+			return precpred(_ctx, 6);
+		case 2:
+			return precpred(_ctx, 5);
+		case 3:
+			return precpred(_ctx, 4);
+		case 4:
+			return precpred(_ctx, 3);
+		case 5:
+			return precpred(_ctx, 2);
+		case 6:
+			return precpred(_ctx, 11);
+		case 7:
+			return precpred(_ctx, 10);
+		case 8:
+			return precpred(_ctx, 9);
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\u0004\u00018\u01e4\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u00018\u019a\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -3384,301 +2821,267 @@ public class ToorlaParser extends Parser {
 		"\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007\u0012"+
 		"\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007\u0015"+
 		"\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007\u0018"+
-		"\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007\u001b"+
-		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
-		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
-		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
-		"(\u0007(\u0001\u0000\u0005\u0000T\b\u0000\n\u0000\f\u0000W\t\u0000\u0001"+
-		"\u0000\u0001\u0000\u0005\u0000[\b\u0000\n\u0000\f\u0000^\t\u0000\u0001"+
-		"\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0003"+
-		"\u0001f\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0005\u0001k\b\u0001"+
-		"\n\u0001\f\u0001n\t\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0001\u0003\u0003\u0003v\b\u0003\u0001\u0003\u0001\u0003"+
-		"\u0001\u0003\u0001\u0003\u0005\u0003|\b\u0003\n\u0003\f\u0003\u007f\t"+
-		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001"+
-		"\u0005\u0003\u0005\u0087\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0005\u0005\u0005\u0093\b\u0005\n\u0005\f\u0005\u0096\t\u0005\u0003\u0005"+
-		"\u0098\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
-		"\u0005\u0005\u009f\b\u0005\n\u0005\f\u0005\u00a2\t\u0005\u0001\u0005\u0001"+
-		"\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
+		"\u0002\u0019\u0007\u0019\u0001\u0000\u0005\u00006\b\u0000\n\u0000\f\u0000"+
+		"9\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000=\b\u0000\n\u0000\f\u0000"+
+		"@\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0003\u0001H\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0005\u0001M\b\u0001\n\u0001\f\u0001P\t\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0003\u0003X\b\u0003"+
+		"\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0005\u0003^\b\u0003"+
+		"\n\u0003\f\u0003a\t\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0004"+
+		"\u0001\u0004\u0001\u0005\u0003\u0005i\b\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0005\u0005u\b\u0005\n\u0005\f\u0005x\t\u0005"+
+		"\u0003\u0005z\b\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0005\u0005\u0081\b\u0005\n\u0005\f\u0005\u0084\t\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
 		"\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001"+
-		"\u0006\u0003\u0006\u00b2\b\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
+		"\u0006\u0001\u0006\u0003\u0006\u0094\b\u0006\u0001\u0007\u0001\u0007\u0001"+
 		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0005\u0007\u00bf\b\u0007\n\u0007\f\u0007\u00c2\t\u0007"+
-		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\u0007\u0001\u0007\u0001\u0007\u0005\u0007\u00a1\b\u0007\n\u0007\f\u0007"+
+		"\u00a4\t\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001"+
 		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0005\b\u00d8\b\b\n\b\f\b\u00db\t\b\u0001\b"+
-		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ee"+
-		"\b\b\n\b\f\b\u00f1\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00f6\b\b\u0001"+
-		"\t\u0001\t\u0003\t\u00fa\b\t\u0001\n\u0001\n\u0003\n\u00fe\b\n\u0001\u000b"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005\b\u00ba\b\b\n\b\f\b\u00bd"+
+		"\t\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0005"+
+		"\b\u00d0\b\b\n\b\f\b\u00d3\t\b\u0001\b\u0001\b\u0001\b\u0003\b\u00d8\b"+
+		"\b\u0001\t\u0001\t\u0003\t\u00dc\b\t\u0001\n\u0001\n\u0003\n\u00e0\b\n"+
 		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\u000b\u0005\u000b\u0108\b\u000b\n\u000b\f\u000b\u010b\t\u000b\u0001"+
-		"\u000b\u0001\u000b\u0001\f\u0001\f\u0005\f\u0111\b\f\n\f\f\f\u0114\t\f"+
-		"\u0001\f\u0001\f\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001"+
-		"\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001"+
-		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001"+
-		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
-		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u014b\b\u0018\u0001"+
-		"\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
-		"\u001a\u0001\u001a\u0003\u001a\u0155\b\u001a\u0001\u001b\u0001\u001b\u0001"+
-		"\u001b\u0001\u001c\u0001\u001c\u0003\u001c\u015c\b\u001c\u0001\u001c\u0001"+
-		"\u001c\u0001\u001c\u0001\u001c\u0003\u001c\u0162\b\u001c\u0001\u001d\u0001"+
-		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0003\u001e\u0169\b\u001e\u0001"+
-		"\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0003\u001e\u016f\b\u001e\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0003 \u0176\b \u0001 \u0001"+
-		" \u0001 \u0001 \u0003 \u017c\b \u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001"+
-		"\"\u0003\"\u0184\b\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u018a\b\""+
-		"\u0001#\u0001#\u0003#\u018e\b#\u0001#\u0001#\u0003#\u0192\b#\u0001$\u0001"+
-		"$\u0001$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0005%\u019d\b%\n%"+
-		"\f%\u01a0\t%\u0003%\u01a2\b%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001"+
-		"%\u0001%\u0003%\u01ab\b%\u0001%\u0001%\u0003%\u01af\b%\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
-		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0005&\u01cf\b&\n&"+
-		"\f&\u01d2\t&\u0003&\u01d4\b&\u0001&\u0003&\u01d7\b&\u0001\'\u0001\'\u0001"+
-		"\'\u0003\'\u01dc\b\'\u0001(\u0001(\u0001(\u0001(\u0003(\u01e2\b(\u0001"+
-		"(\u0000\u0000)\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016"+
-		"\u0018\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNP\u0000\u0001\u0001\u0000"+
-		"\t\n\u01fb\u0000U\u0001\u0000\u0000\u0000\u0002a\u0001\u0000\u0000\u0000"+
-		"\u0004q\u0001\u0000\u0000\u0000\u0006u\u0001\u0000\u0000\u0000\b\u0083"+
-		"\u0001\u0000\u0000\u0000\n\u0086\u0001\u0000\u0000\u0000\f\u00b1\u0001"+
-		"\u0000\u0000\u0000\u000e\u00b3\u0001\u0000\u0000\u0000\u0010\u00f5\u0001"+
-		"\u0000\u0000\u0000\u0012\u00f9\u0001\u0000\u0000\u0000\u0014\u00fd\u0001"+
-		"\u0000\u0000\u0000\u0016\u00ff\u0001\u0000\u0000\u0000\u0018\u010e\u0001"+
-		"\u0000\u0000\u0000\u001a\u0117\u0001\u0000\u0000\u0000\u001c\u011a\u0001"+
-		"\u0000\u0000\u0000\u001e\u011d\u0001\u0000\u0000\u0000 \u0121\u0001\u0000"+
-		"\u0000\u0000\"\u0127\u0001\u0000\u0000\u0000$\u012d\u0001\u0000\u0000"+
-		"\u0000&\u0133\u0001\u0000\u0000\u0000(\u0138\u0001\u0000\u0000\u0000*"+
-		"\u013c\u0001\u0000\u0000\u0000,\u0140\u0001\u0000\u0000\u0000.\u0142\u0001"+
-		"\u0000\u0000\u00000\u014a\u0001\u0000\u0000\u00002\u014c\u0001\u0000\u0000"+
-		"\u00004\u0154\u0001\u0000\u0000\u00006\u0156\u0001\u0000\u0000\u00008"+
-		"\u0161\u0001\u0000\u0000\u0000:\u0163\u0001\u0000\u0000\u0000<\u016e\u0001"+
-		"\u0000\u0000\u0000>\u0170\u0001\u0000\u0000\u0000@\u017b\u0001\u0000\u0000"+
-		"\u0000B\u017d\u0001\u0000\u0000\u0000D\u0189\u0001\u0000\u0000\u0000F"+
-		"\u0191\u0001\u0000\u0000\u0000H\u0193\u0001\u0000\u0000\u0000J\u01ae\u0001"+
-		"\u0000\u0000\u0000L\u01d6\u0001\u0000\u0000\u0000N\u01d8\u0001\u0000\u0000"+
-		"\u0000P\u01e1\u0001\u0000\u0000\u0000RT\u0003\u0002\u0001\u0000SR\u0001"+
-		"\u0000\u0000\u0000TW\u0001\u0000\u0000\u0000US\u0001\u0000\u0000\u0000"+
-		"UV\u0001\u0000\u0000\u0000VX\u0001\u0000\u0000\u0000WU\u0001\u0000\u0000"+
-		"\u0000X\\\u0003\u0004\u0002\u0000Y[\u0003\u0002\u0001\u0000ZY\u0001\u0000"+
-		"\u0000\u0000[^\u0001\u0000\u0000\u0000\\Z\u0001\u0000\u0000\u0000\\]\u0001"+
-		"\u0000\u0000\u0000]_\u0001\u0000\u0000\u0000^\\\u0001\u0000\u0000\u0000"+
-		"_`\u0005\u0000\u0000\u0001`\u0001\u0001\u0000\u0000\u0000ab\u0005\u0001"+
-		"\u0000\u0000be\u00055\u0000\u0000cd\u0005\u0002\u0000\u0000df\u00055\u0000"+
-		"\u0000ec\u0001\u0000\u0000\u0000ef\u0001\u0000\u0000\u0000fg\u0001\u0000"+
-		"\u0000\u0000gl\u0005\u0003\u0000\u0000hk\u0003\u0006\u0003\u0000ik\u0003"+
-		"\n\u0005\u0000jh\u0001\u0000\u0000\u0000ji\u0001\u0000\u0000\u0000kn\u0001"+
-		"\u0000\u0000\u0000lj\u0001\u0000\u0000\u0000lm\u0001\u0000\u0000\u0000"+
-		"mo\u0001\u0000\u0000\u0000nl\u0001\u0000\u0000\u0000op\u0005\u0004\u0000"+
-		"\u0000p\u0003\u0001\u0000\u0000\u0000qr\u0005\u0005\u0000\u0000rs\u0003"+
-		"\u0002\u0001\u0000s\u0005\u0001\u0000\u0000\u0000tv\u0003\b\u0004\u0000"+
-		"ut\u0001\u0000\u0000\u0000uv\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000"+
-		"\u0000wx\u0005\u0006\u0000\u0000x}\u00055\u0000\u0000yz\u0005\u0007\u0000"+
-		"\u0000z|\u00055\u0000\u0000{y\u0001\u0000\u0000\u0000|\u007f\u0001\u0000"+
-		"\u0000\u0000}{\u0001\u0000\u0000\u0000}~\u0001\u0000\u0000\u0000~\u0080"+
-		"\u0001\u0000\u0000\u0000\u007f}\u0001\u0000\u0000\u0000\u0080\u0081\u0003"+
-		"N\'\u0000\u0081\u0082\u0005\b\u0000\u0000\u0082\u0007\u0001\u0000\u0000"+
-		"\u0000\u0083\u0084\u0007\u0000\u0000\u0000\u0084\t\u0001\u0000\u0000\u0000"+
-		"\u0085\u0087\u0003\b\u0004\u0000\u0086\u0085\u0001\u0000\u0000\u0000\u0086"+
-		"\u0087\u0001\u0000\u0000\u0000\u0087\u0088\u0001\u0000\u0000\u0000\u0088"+
-		"\u0089\u0005\u000b\u0000\u0000\u0089\u008a\u00055\u0000\u0000\u008a\u0097"+
-		"\u0005\f\u0000\u0000\u008b\u008c\u00055\u0000\u0000\u008c\u008d\u0005"+
-		"\u0003\u0000\u0000\u008d\u0094\u0003N\'\u0000\u008e\u008f\u0005\u0007"+
-		"\u0000\u0000\u008f\u0090\u00055\u0000\u0000\u0090\u0091\u0005\u0003\u0000"+
-		"\u0000\u0091\u0093\u0003N\'\u0000\u0092\u008e\u0001\u0000\u0000\u0000"+
-		"\u0093\u0096\u0001\u0000\u0000\u0000\u0094\u0092\u0001\u0000\u0000\u0000"+
-		"\u0094\u0095\u0001\u0000\u0000\u0000\u0095\u0098\u0001\u0000\u0000\u0000"+
-		"\u0096\u0094\u0001\u0000\u0000\u0000\u0097\u008b\u0001\u0000\u0000\u0000"+
-		"\u0097\u0098\u0001\u0000\u0000\u0000\u0098\u0099\u0001\u0000\u0000\u0000"+
-		"\u0099\u009a\u0005\r\u0000\u0000\u009a\u009b\u0005\u000e\u0000\u0000\u009b"+
-		"\u009c\u0003N\'\u0000\u009c\u00a0\u0005\u0003\u0000\u0000\u009d\u009f"+
-		"\u0003\u0014\n\u0000\u009e\u009d\u0001\u0000\u0000\u0000\u009f\u00a2\u0001"+
-		"\u0000\u0000\u0000\u00a0\u009e\u0001\u0000\u0000\u0000\u00a0\u00a1\u0001"+
-		"\u0000\u0000\u0000\u00a1\u00a3\u0001\u0000\u0000\u0000\u00a2\u00a0\u0001"+
-		"\u0000\u0000\u0000\u00a3\u00a4\u0005\u0004\u0000\u0000\u00a4\u000b\u0001"+
-		"\u0000\u0000\u0000\u00a5\u00b2\u0003\u0018\f\u0000\u00a6\u00b2\u0003\u000e"+
-		"\u0007\u0000\u00a7\u00b2\u0003 \u0010\u0000\u00a8\u00b2\u0003$\u0012\u0000"+
-		"\u00a9\u00b2\u0003&\u0013\u0000\u00aa\u00b2\u0003\u001e\u000f\u0000\u00ab"+
-		"\u00b2\u0003\u0016\u000b\u0000\u00ac\u00b2\u0003\u001a\r\u0000\u00ad\u00b2"+
-		"\u0003\u001c\u000e\u0000\u00ae\u00b2\u0003(\u0014\u0000\u00af\u00b2\u0003"+
-		"*\u0015\u0000\u00b0\u00b2\u0005\b\u0000\u0000\u00b1\u00a5\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00a6\u0001\u0000\u0000\u0000\u00b1\u00a7\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00a8\u0001\u0000\u0000\u0000\u00b1\u00a9\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00aa\u0001\u0000\u0000\u0000\u00b1\u00ab\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00ac\u0001\u0000\u0000\u0000\u00b1\u00ad\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00ae\u0001\u0000\u0000\u0000\u00b1\u00af\u0001\u0000"+
-		"\u0000\u0000\u00b1\u00b0\u0001\u0000\u0000\u0000\u00b2\r\u0001\u0000\u0000"+
-		"\u0000\u00b3\u00b4\u0005\u000f\u0000\u0000\u00b4\u00b5\u0005\f\u0000\u0000"+
+		"\u0001\u000b\u0001\u000b\u0005\u000b\u00ea\b\u000b\n\u000b\f\u000b\u00ed"+
+		"\t\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0005\f\u00f3\b\f\n\f"+
+		"\f\f\u00f6\t\f\u0001\f\u0001\f\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001"+
+		"\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
+		"\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001"+
+		"\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
+		"\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0003\u0016\u0126\b\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u012a\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u0130\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u0136\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u013c\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0003\u0016\u0142\b\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005"+
+		"\u0016\u0152\b\u0016\n\u0016\f\u0016\u0155\t\u0016\u0003\u0016\u0157\b"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0005\u0016\u0162\b\u0016\n"+
+		"\u0016\f\u0016\u0165\t\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0005\u0017\u0185\b\u0017\n\u0017\f\u0017"+
+		"\u0188\t\u0017\u0003\u0017\u018a\b\u0017\u0001\u0017\u0003\u0017\u018d"+
+		"\b\u0017\u0001\u0018\u0001\u0018\u0001\u0018\u0003\u0018\u0192\b\u0018"+
+		"\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0003\u0019\u0198\b\u0019"+
+		"\u0001\u0019\u0000\u0001,\u001a\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010"+
+		"\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,.02\u0000\u0001\u0001"+
+		"\u0000\t\n\u01c0\u00007\u0001\u0000\u0000\u0000\u0002C\u0001\u0000\u0000"+
+		"\u0000\u0004S\u0001\u0000\u0000\u0000\u0006W\u0001\u0000\u0000\u0000\b"+
+		"e\u0001\u0000\u0000\u0000\nh\u0001\u0000\u0000\u0000\f\u0093\u0001\u0000"+
+		"\u0000\u0000\u000e\u0095\u0001\u0000\u0000\u0000\u0010\u00d7\u0001\u0000"+
+		"\u0000\u0000\u0012\u00db\u0001\u0000\u0000\u0000\u0014\u00df\u0001\u0000"+
+		"\u0000\u0000\u0016\u00e1\u0001\u0000\u0000\u0000\u0018\u00f0\u0001\u0000"+
+		"\u0000\u0000\u001a\u00f9\u0001\u0000\u0000\u0000\u001c\u00fc\u0001\u0000"+
+		"\u0000\u0000\u001e\u00ff\u0001\u0000\u0000\u0000 \u0103\u0001\u0000\u0000"+
+		"\u0000\"\u0109\u0001\u0000\u0000\u0000$\u010f\u0001\u0000\u0000\u0000"+
+		"&\u0115\u0001\u0000\u0000\u0000(\u011a\u0001\u0000\u0000\u0000*\u011e"+
+		"\u0001\u0000\u0000\u0000,\u0129\u0001\u0000\u0000\u0000.\u018c\u0001\u0000"+
+		"\u0000\u00000\u018e\u0001\u0000\u0000\u00002\u0197\u0001\u0000\u0000\u0000"+
+		"46\u0003\u0002\u0001\u000054\u0001\u0000\u0000\u000069\u0001\u0000\u0000"+
+		"\u000075\u0001\u0000\u0000\u000078\u0001\u0000\u0000\u00008:\u0001\u0000"+
+		"\u0000\u000097\u0001\u0000\u0000\u0000:>\u0003\u0004\u0002\u0000;=\u0003"+
+		"\u0002\u0001\u0000<;\u0001\u0000\u0000\u0000=@\u0001\u0000\u0000\u0000"+
+		"><\u0001\u0000\u0000\u0000>?\u0001\u0000\u0000\u0000?A\u0001\u0000\u0000"+
+		"\u0000@>\u0001\u0000\u0000\u0000AB\u0005\u0000\u0000\u0001B\u0001\u0001"+
+		"\u0000\u0000\u0000CD\u0005\u0001\u0000\u0000DG\u00055\u0000\u0000EF\u0005"+
+		"\u0002\u0000\u0000FH\u00055\u0000\u0000GE\u0001\u0000\u0000\u0000GH\u0001"+
+		"\u0000\u0000\u0000HI\u0001\u0000\u0000\u0000IN\u0005\u0003\u0000\u0000"+
+		"JM\u0003\u0006\u0003\u0000KM\u0003\n\u0005\u0000LJ\u0001\u0000\u0000\u0000"+
+		"LK\u0001\u0000\u0000\u0000MP\u0001\u0000\u0000\u0000NL\u0001\u0000\u0000"+
+		"\u0000NO\u0001\u0000\u0000\u0000OQ\u0001\u0000\u0000\u0000PN\u0001\u0000"+
+		"\u0000\u0000QR\u0005\u0004\u0000\u0000R\u0003\u0001\u0000\u0000\u0000"+
+		"ST\u0005\u0005\u0000\u0000TU\u0003\u0002\u0001\u0000U\u0005\u0001\u0000"+
+		"\u0000\u0000VX\u0003\b\u0004\u0000WV\u0001\u0000\u0000\u0000WX\u0001\u0000"+
+		"\u0000\u0000XY\u0001\u0000\u0000\u0000YZ\u0005\u0006\u0000\u0000Z_\u0005"+
+		"5\u0000\u0000[\\\u0005\u0007\u0000\u0000\\^\u00055\u0000\u0000][\u0001"+
+		"\u0000\u0000\u0000^a\u0001\u0000\u0000\u0000_]\u0001\u0000\u0000\u0000"+
+		"_`\u0001\u0000\u0000\u0000`b\u0001\u0000\u0000\u0000a_\u0001\u0000\u0000"+
+		"\u0000bc\u00030\u0018\u0000cd\u0005\b\u0000\u0000d\u0007\u0001\u0000\u0000"+
+		"\u0000ef\u0007\u0000\u0000\u0000f\t\u0001\u0000\u0000\u0000gi\u0003\b"+
+		"\u0004\u0000hg\u0001\u0000\u0000\u0000hi\u0001\u0000\u0000\u0000ij\u0001"+
+		"\u0000\u0000\u0000jk\u0005\u000b\u0000\u0000kl\u00055\u0000\u0000ly\u0005"+
+		"\f\u0000\u0000mn\u00055\u0000\u0000no\u0005\u0003\u0000\u0000ov\u0003"+
+		"0\u0018\u0000pq\u0005\u0007\u0000\u0000qr\u00055\u0000\u0000rs\u0005\u0003"+
+		"\u0000\u0000su\u00030\u0018\u0000tp\u0001\u0000\u0000\u0000ux\u0001\u0000"+
+		"\u0000\u0000vt\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000\u0000wz\u0001"+
+		"\u0000\u0000\u0000xv\u0001\u0000\u0000\u0000ym\u0001\u0000\u0000\u0000"+
+		"yz\u0001\u0000\u0000\u0000z{\u0001\u0000\u0000\u0000{|\u0005\r\u0000\u0000"+
+		"|}\u0005\u000e\u0000\u0000}~\u00030\u0018\u0000~\u0082\u0005\u0003\u0000"+
+		"\u0000\u007f\u0081\u0003\u0014\n\u0000\u0080\u007f\u0001\u0000\u0000\u0000"+
+		"\u0081\u0084\u0001\u0000\u0000\u0000\u0082\u0080\u0001\u0000\u0000\u0000"+
+		"\u0082\u0083\u0001\u0000\u0000\u0000\u0083\u0085\u0001\u0000\u0000\u0000"+
+		"\u0084\u0082\u0001\u0000\u0000\u0000\u0085\u0086\u0005\u0004\u0000\u0000"+
+		"\u0086\u000b\u0001\u0000\u0000\u0000\u0087\u0094\u0003\u0018\f\u0000\u0088"+
+		"\u0094\u0003\u000e\u0007\u0000\u0089\u0094\u0003 \u0010\u0000\u008a\u0094"+
+		"\u0003$\u0012\u0000\u008b\u0094\u0003&\u0013\u0000\u008c\u0094\u0003\u001e"+
+		"\u000f\u0000\u008d\u0094\u0003\u0016\u000b\u0000\u008e\u0094\u0003\u001a"+
+		"\r\u0000\u008f\u0094\u0003\u001c\u000e\u0000\u0090\u0094\u0003(\u0014"+
+		"\u0000\u0091\u0094\u0003*\u0015\u0000\u0092\u0094\u0005\b\u0000\u0000"+
+		"\u0093\u0087\u0001\u0000\u0000\u0000\u0093\u0088\u0001\u0000\u0000\u0000"+
+		"\u0093\u0089\u0001\u0000\u0000\u0000\u0093\u008a\u0001\u0000\u0000\u0000"+
+		"\u0093\u008b\u0001\u0000\u0000\u0000\u0093\u008c\u0001\u0000\u0000\u0000"+
+		"\u0093\u008d\u0001\u0000\u0000\u0000\u0093\u008e\u0001\u0000\u0000\u0000"+
+		"\u0093\u008f\u0001\u0000\u0000\u0000\u0093\u0090\u0001\u0000\u0000\u0000"+
+		"\u0093\u0091\u0001\u0000\u0000\u0000\u0093\u0092\u0001\u0000\u0000\u0000"+
+		"\u0094\r\u0001\u0000\u0000\u0000\u0095\u0096\u0005\u000f\u0000\u0000\u0096"+
+		"\u0097\u0005\f\u0000\u0000\u0097\u0098\u0003,\u0016\u0000\u0098\u0099"+
+		"\u0005\r\u0000\u0000\u0099\u00a2\u0003\f\u0006\u0000\u009a\u009b\u0005"+
+		"\u0010\u0000\u0000\u009b\u009c\u0005\f\u0000\u0000\u009c\u009d\u0003,"+
+		"\u0016\u0000\u009d\u009e\u0005\r\u0000\u0000\u009e\u009f\u0003\f\u0006"+
+		"\u0000\u009f\u00a1\u0001\u0000\u0000\u0000\u00a0\u009a\u0001\u0000\u0000"+
+		"\u0000\u00a1\u00a4\u0001\u0000\u0000\u0000\u00a2\u00a0\u0001\u0000\u0000"+
+		"\u0000\u00a2\u00a3\u0001\u0000\u0000\u0000\u00a3\u00a5\u0001\u0000\u0000"+
+		"\u0000\u00a4\u00a2\u0001\u0000\u0000\u0000\u00a5\u00a6\u0005\u0011\u0000"+
+		"\u0000\u00a6\u00a7\u0003\f\u0006\u0000\u00a7\u000f\u0001\u0000\u0000\u0000"+
+		"\u00a8\u00a9\u0005\u000f\u0000\u0000\u00a9\u00aa\u0005\f\u0000\u0000\u00aa"+
+		"\u00ab\u0003,\u0016\u0000\u00ab\u00ac\u0005\r\u0000\u0000\u00ac\u00ad"+
+		"\u0003\u0014\n\u0000\u00ad\u00d8\u0001\u0000\u0000\u0000\u00ae\u00af\u0005"+
+		"\u000f\u0000\u0000\u00af\u00b0\u0005\f\u0000\u0000\u00b0\u00b1\u0003,"+
+		"\u0016\u0000\u00b1\u00b2\u0005\r\u0000\u0000\u00b2\u00bb\u0003\f\u0006"+
+		"\u0000\u00b3\u00b4\u0005\u0010\u0000\u0000\u00b4\u00b5\u0005\f\u0000\u0000"+
 		"\u00b5\u00b6\u0003,\u0016\u0000\u00b6\u00b7\u0005\r\u0000\u0000\u00b7"+
-		"\u00c0\u0003\f\u0006\u0000\u00b8\u00b9\u0005\u0010\u0000\u0000\u00b9\u00ba"+
-		"\u0005\f\u0000\u0000\u00ba\u00bb\u0003,\u0016\u0000\u00bb\u00bc\u0005"+
-		"\r\u0000\u0000\u00bc\u00bd\u0003\f\u0006\u0000\u00bd\u00bf\u0001\u0000"+
-		"\u0000\u0000\u00be\u00b8\u0001\u0000\u0000\u0000\u00bf\u00c2\u0001\u0000"+
-		"\u0000\u0000\u00c0\u00be\u0001\u0000\u0000\u0000\u00c0\u00c1\u0001\u0000"+
-		"\u0000\u0000\u00c1\u00c3\u0001\u0000\u0000\u0000\u00c2\u00c0\u0001\u0000"+
-		"\u0000\u0000\u00c3\u00c4\u0005\u0011\u0000\u0000\u00c4\u00c5\u0003\f\u0006"+
-		"\u0000\u00c5\u000f\u0001\u0000\u0000\u0000\u00c6\u00c7\u0005\u000f\u0000"+
-		"\u0000\u00c7\u00c8\u0005\f\u0000\u0000\u00c8\u00c9\u0003,\u0016\u0000"+
-		"\u00c9\u00ca\u0005\r\u0000\u0000\u00ca\u00cb\u0003\u0014\n\u0000\u00cb"+
-		"\u00f6\u0001\u0000\u0000\u0000\u00cc\u00cd\u0005\u000f\u0000\u0000\u00cd"+
-		"\u00ce\u0005\f\u0000\u0000\u00ce\u00cf\u0003,\u0016\u0000\u00cf\u00d0"+
-		"\u0005\r\u0000\u0000\u00d0\u00d9\u0003\f\u0006\u0000\u00d1\u00d2\u0005"+
-		"\u0010\u0000\u0000\u00d2\u00d3\u0005\f\u0000\u0000\u00d3\u00d4\u0003,"+
-		"\u0016\u0000\u00d4\u00d5\u0005\r\u0000\u0000\u00d5\u00d6\u0003\f\u0006"+
-		"\u0000\u00d6\u00d8\u0001\u0000\u0000\u0000\u00d7\u00d1\u0001\u0000\u0000"+
-		"\u0000\u00d8\u00db\u0001\u0000\u0000\u0000\u00d9\u00d7\u0001\u0000\u0000"+
-		"\u0000\u00d9\u00da\u0001\u0000\u0000\u0000\u00da\u00dc\u0001\u0000\u0000"+
-		"\u0000\u00db\u00d9\u0001\u0000\u0000\u0000\u00dc\u00dd\u0005\u0010\u0000"+
-		"\u0000\u00dd\u00de\u0005\f\u0000\u0000\u00de\u00df\u0003,\u0016\u0000"+
-		"\u00df\u00e0\u0005\r\u0000\u0000\u00e0\u00e1\u0003\u0014\n\u0000\u00e1"+
-		"\u00f6\u0001\u0000\u0000\u0000\u00e2\u00e3\u0005\u000f\u0000\u0000\u00e3"+
-		"\u00e4\u0005\f\u0000\u0000\u00e4\u00e5\u0003,\u0016\u0000\u00e5\u00e6"+
-		"\u0005\r\u0000\u0000\u00e6\u00ef\u0003\f\u0006\u0000\u00e7\u00e8\u0005"+
-		"\u0010\u0000\u0000\u00e8\u00e9\u0005\f\u0000\u0000\u00e9\u00ea\u0003,"+
-		"\u0016\u0000\u00ea\u00eb\u0005\r\u0000\u0000\u00eb\u00ec\u0003\f\u0006"+
-		"\u0000\u00ec\u00ee\u0001\u0000\u0000\u0000\u00ed\u00e7\u0001\u0000\u0000"+
-		"\u0000\u00ee\u00f1\u0001\u0000\u0000\u0000\u00ef\u00ed\u0001\u0000\u0000"+
-		"\u0000\u00ef\u00f0\u0001\u0000\u0000\u0000\u00f0\u00f2\u0001\u0000\u0000"+
-		"\u0000\u00f1\u00ef\u0001\u0000\u0000\u0000\u00f2\u00f3\u0005\u0011\u0000"+
-		"\u0000\u00f3\u00f4\u0003\u0012\t\u0000\u00f4\u00f6\u0001\u0000\u0000\u0000"+
-		"\u00f5\u00c6\u0001\u0000\u0000\u0000\u00f5\u00cc\u0001\u0000\u0000\u0000"+
-		"\u00f5\u00e2\u0001\u0000\u0000\u0000\u00f6\u0011\u0001\u0000\u0000\u0000"+
-		"\u00f7\u00fa\u0003\"\u0011\u0000\u00f8\u00fa\u0003\u0010\b\u0000\u00f9"+
-		"\u00f7\u0001\u0000\u0000\u0000\u00f9\u00f8\u0001\u0000\u0000\u0000\u00fa"+
-		"\u0013\u0001\u0000\u0000\u0000\u00fb\u00fe\u0003\f\u0006\u0000\u00fc\u00fe"+
-		"\u0003\u0012\t\u0000\u00fd\u00fb\u0001\u0000\u0000\u0000\u00fd\u00fc\u0001"+
-		"\u0000\u0000\u0000\u00fe\u0015\u0001\u0000\u0000\u0000\u00ff\u0100\u0005"+
-		"\u0012\u0000\u0000\u0100\u0101\u00055\u0000\u0000\u0101\u0102\u0005\u0013"+
-		"\u0000\u0000\u0102\u0109\u0003,\u0016\u0000\u0103\u0104\u0005\u0007\u0000"+
-		"\u0000\u0104\u0105\u00055\u0000\u0000\u0105\u0106\u0005\u0013\u0000\u0000"+
-		"\u0106\u0108\u0003,\u0016\u0000\u0107\u0103\u0001\u0000\u0000\u0000\u0108"+
-		"\u010b\u0001\u0000\u0000\u0000\u0109\u0107\u0001\u0000\u0000\u0000\u0109"+
-		"\u010a\u0001\u0000\u0000\u0000\u010a\u010c\u0001\u0000\u0000\u0000\u010b"+
-		"\u0109\u0001\u0000\u0000\u0000\u010c\u010d\u0005\b\u0000\u0000\u010d\u0017"+
-		"\u0001\u0000\u0000\u0000\u010e\u0112\u0005\u0014\u0000\u0000\u010f\u0111"+
-		"\u0003\u0014\n\u0000\u0110\u010f\u0001\u0000\u0000\u0000\u0111\u0114\u0001"+
-		"\u0000\u0000\u0000\u0112\u0110\u0001\u0000\u0000\u0000\u0112\u0113\u0001"+
-		"\u0000\u0000\u0000\u0113\u0115\u0001\u0000\u0000\u0000\u0114\u0112\u0001"+
-		"\u0000\u0000\u0000\u0115\u0116\u0005\u0004\u0000\u0000\u0116\u0019\u0001"+
-		"\u0000\u0000\u0000\u0117\u0118\u0005\u0015\u0000\u0000\u0118\u0119\u0005"+
-		"\b\u0000\u0000\u0119\u001b\u0001\u0000\u0000\u0000\u011a\u011b\u0005\u0016"+
-		"\u0000\u0000\u011b\u011c\u0005\b\u0000\u0000\u011c\u001d\u0001\u0000\u0000"+
-		"\u0000\u011d\u011e\u0005\u0017\u0000\u0000\u011e\u011f\u0003,\u0016\u0000"+
-		"\u011f\u0120\u0005\b\u0000\u0000\u0120\u001f\u0001\u0000\u0000\u0000\u0121"+
-		"\u0122\u0005\u0018\u0000\u0000\u0122\u0123\u0005\f\u0000\u0000\u0123\u0124"+
-		"\u0003,\u0016\u0000\u0124\u0125\u0005\r\u0000\u0000\u0125\u0126\u0003"+
-		"\f\u0006\u0000\u0126!\u0001\u0000\u0000\u0000\u0127\u0128\u0005\u0018"+
-		"\u0000\u0000\u0128\u0129\u0005\f\u0000\u0000\u0129\u012a\u0003,\u0016"+
-		"\u0000\u012a\u012b\u0005\r\u0000\u0000\u012b\u012c\u0003\u0012\t\u0000"+
-		"\u012c#\u0001\u0000\u0000\u0000\u012d\u012e\u0005\u0019\u0000\u0000\u012e"+
-		"\u012f\u0005\f\u0000\u0000\u012f\u0130\u0003,\u0016\u0000\u0130\u0131"+
-		"\u0005\r\u0000\u0000\u0131\u0132\u0005\b\u0000\u0000\u0132%\u0001\u0000"+
-		"\u0000\u0000\u0133\u0134\u0003,\u0016\u0000\u0134\u0135\u0005\u0013\u0000"+
-		"\u0000\u0135\u0136\u0003,\u0016\u0000\u0136\u0137\u0005\b\u0000\u0000"+
-		"\u0137\'\u0001\u0000\u0000\u0000\u0138\u0139\u0003,\u0016\u0000\u0139"+
-		"\u013a\u0005\u001a\u0000\u0000\u013a\u013b\u0005\b\u0000\u0000\u013b)"+
-		"\u0001\u0000\u0000\u0000\u013c\u013d\u0003,\u0016\u0000\u013d\u013e\u0005"+
-		"\u001b\u0000\u0000\u013e\u013f\u0005\b\u0000\u0000\u013f+\u0001\u0000"+
-		"\u0000\u0000\u0140\u0141\u0003.\u0017\u0000\u0141-\u0001\u0000\u0000\u0000"+
-		"\u0142\u0143\u00032\u0019\u0000\u0143\u0144\u00030\u0018\u0000\u0144/"+
-		"\u0001\u0000\u0000\u0000\u0145\u0146\u0005\u001c\u0000\u0000\u0146\u0147"+
-		"\u00032\u0019\u0000\u0147\u0148\u00030\u0018\u0000\u0148\u014b\u0001\u0000"+
-		"\u0000\u0000\u0149\u014b\u0001\u0000\u0000\u0000\u014a\u0145\u0001\u0000"+
-		"\u0000\u0000\u014a\u0149\u0001\u0000\u0000\u0000\u014b1\u0001\u0000\u0000"+
-		"\u0000\u014c\u014d\u00036\u001b\u0000\u014d\u014e\u00034\u001a\u0000\u014e"+
-		"3\u0001\u0000\u0000\u0000\u014f\u0150\u0005\u001d\u0000\u0000\u0150\u0151"+
-		"\u00036\u001b\u0000\u0151\u0152\u00034\u001a\u0000\u0152\u0155\u0001\u0000"+
-		"\u0000\u0000\u0153\u0155\u0001\u0000\u0000\u0000\u0154\u014f\u0001\u0000"+
-		"\u0000\u0000\u0154\u0153\u0001\u0000\u0000\u0000\u01555\u0001\u0000\u0000"+
-		"\u0000\u0156\u0157\u0003:\u001d\u0000\u0157\u0158\u00038\u001c\u0000\u0158"+
-		"7\u0001\u0000\u0000\u0000\u0159\u015c\u0005\u001e\u0000\u0000\u015a\u015c"+
-		"\u0005\u001f\u0000\u0000\u015b\u0159\u0001\u0000\u0000\u0000\u015b\u015a"+
-		"\u0001\u0000\u0000\u0000\u015c\u015d\u0001\u0000\u0000\u0000\u015d\u015e"+
-		"\u0003:\u001d\u0000\u015e\u015f\u00038\u001c\u0000\u015f\u0162\u0001\u0000"+
-		"\u0000\u0000\u0160\u0162\u0001\u0000\u0000\u0000\u0161\u015b\u0001\u0000"+
-		"\u0000\u0000\u0161\u0160\u0001\u0000\u0000\u0000\u01629\u0001\u0000\u0000"+
-		"\u0000\u0163\u0164\u0003>\u001f\u0000\u0164\u0165\u0003<\u001e\u0000\u0165"+
-		";\u0001\u0000\u0000\u0000\u0166\u0169\u0005 \u0000\u0000\u0167\u0169\u0005"+
-		"!\u0000\u0000\u0168\u0166\u0001\u0000\u0000\u0000\u0168\u0167\u0001\u0000"+
-		"\u0000\u0000\u0169\u016a\u0001\u0000\u0000\u0000\u016a\u016b\u0003>\u001f"+
-		"\u0000\u016b\u016c\u0003<\u001e\u0000\u016c\u016f\u0001\u0000\u0000\u0000"+
-		"\u016d\u016f\u0001\u0000\u0000\u0000\u016e\u0168\u0001\u0000\u0000\u0000"+
-		"\u016e\u016d\u0001\u0000\u0000\u0000\u016f=\u0001\u0000\u0000\u0000\u0170"+
-		"\u0171\u0003B!\u0000\u0171\u0172\u0003@ \u0000\u0172?\u0001\u0000\u0000"+
-		"\u0000\u0173\u0176\u0005\"\u0000\u0000\u0174\u0176\u0005#\u0000\u0000"+
-		"\u0175\u0173\u0001\u0000\u0000\u0000\u0175\u0174\u0001\u0000\u0000\u0000"+
-		"\u0176\u0177\u0001\u0000\u0000\u0000\u0177\u0178\u0003B!\u0000\u0178\u0179"+
-		"\u0003@ \u0000\u0179\u017c\u0001\u0000\u0000\u0000\u017a\u017c\u0001\u0000"+
-		"\u0000\u0000\u017b\u0175\u0001\u0000\u0000\u0000\u017b\u017a\u0001\u0000"+
-		"\u0000\u0000\u017cA\u0001\u0000\u0000\u0000\u017d\u017e\u0003F#\u0000"+
-		"\u017e\u017f\u0003D\"\u0000\u017fC\u0001\u0000\u0000\u0000\u0180\u0184"+
-		"\u0005$\u0000\u0000\u0181\u0184\u0005%\u0000\u0000\u0182\u0184\u0005&"+
-		"\u0000\u0000\u0183\u0180\u0001\u0000\u0000\u0000\u0183\u0181\u0001\u0000"+
-		"\u0000\u0000\u0183\u0182\u0001\u0000\u0000\u0000\u0184\u0185\u0001\u0000"+
-		"\u0000\u0000\u0185\u0186\u0003F#\u0000\u0186\u0187\u0003D\"\u0000\u0187"+
-		"\u018a\u0001\u0000\u0000\u0000\u0188\u018a\u0001\u0000\u0000\u0000\u0189"+
-		"\u0183\u0001\u0000\u0000\u0000\u0189\u0188\u0001\u0000\u0000\u0000\u018a"+
-		"E\u0001\u0000\u0000\u0000\u018b\u018e\u0005\'\u0000\u0000\u018c\u018e"+
-		"\u0005#\u0000\u0000\u018d\u018b\u0001\u0000\u0000\u0000\u018d\u018c\u0001"+
-		"\u0000\u0000\u0000\u018e\u018f\u0001\u0000\u0000\u0000\u018f\u0192\u0003"+
-		"F#\u0000\u0190\u0192\u0003H$\u0000\u0191\u018d\u0001\u0000\u0000\u0000"+
-		"\u0191\u0190\u0001\u0000\u0000\u0000\u0192G\u0001\u0000\u0000\u0000\u0193"+
-		"\u0194\u0003L&\u0000\u0194\u0195\u0003J%\u0000\u0195I\u0001\u0000\u0000"+
-		"\u0000\u0196\u0197\u0005(\u0000\u0000\u0197\u0198\u00055\u0000\u0000\u0198"+
-		"\u01a1\u0005\f\u0000\u0000\u0199\u019e\u0003,\u0016\u0000\u019a\u019b"+
-		"\u0005\u0007\u0000\u0000\u019b\u019d\u0003,\u0016\u0000\u019c\u019a\u0001"+
-		"\u0000\u0000\u0000\u019d\u01a0\u0001\u0000\u0000\u0000\u019e\u019c\u0001"+
-		"\u0000\u0000\u0000\u019e\u019f\u0001\u0000\u0000\u0000\u019f\u01a2\u0001"+
-		"\u0000\u0000\u0000\u01a0\u019e\u0001\u0000\u0000\u0000\u01a1\u0199\u0001"+
-		"\u0000\u0000\u0000\u01a1\u01a2\u0001\u0000\u0000\u0000\u01a2\u01a3\u0001"+
-		"\u0000\u0000\u0000\u01a3\u01ab\u0005\r\u0000\u0000\u01a4\u01a5\u0005("+
-		"\u0000\u0000\u01a5\u01ab\u00055\u0000\u0000\u01a6\u01a7\u0005)\u0000\u0000"+
-		"\u01a7\u01a8\u0003,\u0016\u0000\u01a8\u01a9\u0005*\u0000\u0000\u01a9\u01ab"+
-		"\u0001\u0000\u0000\u0000\u01aa\u0196\u0001\u0000\u0000\u0000\u01aa\u01a4"+
-		"\u0001\u0000\u0000\u0000\u01aa\u01a6\u0001\u0000\u0000\u0000\u01ab\u01ac"+
-		"\u0001\u0000\u0000\u0000\u01ac\u01af\u0003J%\u0000\u01ad\u01af\u0001\u0000"+
-		"\u0000\u0000\u01ae\u01aa\u0001\u0000\u0000\u0000\u01ae\u01ad\u0001\u0000"+
-		"\u0000\u0000\u01afK\u0001\u0000\u0000\u0000\u01b0\u01d7\u00052\u0000\u0000"+
-		"\u01b1\u01d7\u00053\u0000\u0000\u01b2\u01b3\u0005+\u0000\u0000\u01b3\u01b4"+
-		"\u0003P(\u0000\u01b4\u01b5\u0005)\u0000\u0000\u01b5\u01b6\u0003,\u0016"+
-		"\u0000\u01b6\u01b7\u0005*\u0000\u0000\u01b7\u01d7\u0001\u0000\u0000\u0000"+
-		"\u01b8\u01b9\u0005+\u0000\u0000\u01b9\u01ba\u00055\u0000\u0000\u01ba\u01bb"+
-		"\u0005\f\u0000\u0000\u01bb\u01d7\u0005\r\u0000\u0000\u01bc\u01d7\u0005"+
-		",\u0000\u0000\u01bd\u01d7\u0005-\u0000\u0000\u01be\u01d7\u0005.\u0000"+
-		"\u0000\u01bf\u01d7\u00055\u0000\u0000\u01c0\u01c1\u00055\u0000\u0000\u01c1"+
-		"\u01c2\u0005)\u0000\u0000\u01c2\u01c3\u0003,\u0016\u0000\u01c3\u01c4\u0005"+
-		"*\u0000\u0000\u01c4\u01d7\u0001\u0000\u0000\u0000\u01c5\u01c6\u0005\f"+
-		"\u0000\u0000\u01c6\u01c7\u0003,\u0016\u0000\u01c7\u01c8\u0005\r\u0000"+
-		"\u0000\u01c8\u01d7\u0001\u0000\u0000\u0000\u01c9\u01ca\u00055\u0000\u0000"+
-		"\u01ca\u01d3\u0005\f\u0000\u0000\u01cb\u01d0\u0003,\u0016\u0000\u01cc"+
-		"\u01cd\u0005\u0007\u0000\u0000\u01cd\u01cf\u0003,\u0016\u0000\u01ce\u01cc"+
-		"\u0001\u0000\u0000\u0000\u01cf\u01d2\u0001\u0000\u0000\u0000\u01d0\u01ce"+
-		"\u0001\u0000\u0000\u0000\u01d0\u01d1\u0001\u0000\u0000\u0000\u01d1\u01d4"+
-		"\u0001\u0000\u0000\u0000\u01d2\u01d0\u0001\u0000\u0000\u0000\u01d3\u01cb"+
-		"\u0001\u0000\u0000\u0000\u01d3\u01d4\u0001\u0000\u0000\u0000\u01d4\u01d5"+
-		"\u0001\u0000\u0000\u0000\u01d5\u01d7\u0005\r\u0000\u0000\u01d6\u01b0\u0001"+
-		"\u0000\u0000\u0000\u01d6\u01b1\u0001\u0000\u0000\u0000\u01d6\u01b2\u0001"+
-		"\u0000\u0000\u0000\u01d6\u01b8\u0001\u0000\u0000\u0000\u01d6\u01bc\u0001"+
-		"\u0000\u0000\u0000\u01d6\u01bd\u0001\u0000\u0000\u0000\u01d6\u01be\u0001"+
-		"\u0000\u0000\u0000\u01d6\u01bf\u0001\u0000\u0000\u0000\u01d6\u01c0\u0001"+
-		"\u0000\u0000\u0000\u01d6\u01c5\u0001\u0000\u0000\u0000\u01d6\u01c9\u0001"+
-		"\u0000\u0000\u0000\u01d7M\u0001\u0000\u0000\u0000\u01d8\u01db\u0003P("+
-		"\u0000\u01d9\u01da\u0005)\u0000\u0000\u01da\u01dc\u0005*\u0000\u0000\u01db"+
-		"\u01d9\u0001\u0000\u0000\u0000\u01db\u01dc\u0001\u0000\u0000\u0000\u01dc"+
-		"O\u0001\u0000\u0000\u0000\u01dd\u01e2\u0005/\u0000\u0000\u01de\u01e2\u0005"+
-		"0\u0000\u0000\u01df\u01e2\u00051\u0000\u0000\u01e0\u01e2\u00055\u0000"+
-		"\u0000\u01e1\u01dd\u0001\u0000\u0000\u0000\u01e1\u01de\u0001\u0000\u0000"+
-		"\u0000\u01e1\u01df\u0001\u0000\u0000\u0000\u01e1\u01e0\u0001\u0000\u0000"+
-		"\u0000\u01e2Q\u0001\u0000\u0000\u0000)U\\ejlu}\u0086\u0094\u0097\u00a0"+
-		"\u00b1\u00c0\u00d9\u00ef\u00f5\u00f9\u00fd\u0109\u0112\u014a\u0154\u015b"+
-		"\u0161\u0168\u016e\u0175\u017b\u0183\u0189\u018d\u0191\u019e\u01a1\u01aa"+
-		"\u01ae\u01d0\u01d3\u01d6\u01db\u01e1";
+		"\u00b8\u0003\f\u0006\u0000\u00b8\u00ba\u0001\u0000\u0000\u0000\u00b9\u00b3"+
+		"\u0001\u0000\u0000\u0000\u00ba\u00bd\u0001\u0000\u0000\u0000\u00bb\u00b9"+
+		"\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000\u00bc\u00be"+
+		"\u0001\u0000\u0000\u0000\u00bd\u00bb\u0001\u0000\u0000\u0000\u00be\u00bf"+
+		"\u0005\u0010\u0000\u0000\u00bf\u00c0\u0005\f\u0000\u0000\u00c0\u00c1\u0003"+
+		",\u0016\u0000\u00c1\u00c2\u0005\r\u0000\u0000\u00c2\u00c3\u0003\u0014"+
+		"\n\u0000\u00c3\u00d8\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005\u000f\u0000"+
+		"\u0000\u00c5\u00c6\u0005\f\u0000\u0000\u00c6\u00c7\u0003,\u0016\u0000"+
+		"\u00c7\u00c8\u0005\r\u0000\u0000\u00c8\u00d1\u0003\f\u0006\u0000\u00c9"+
+		"\u00ca\u0005\u0010\u0000\u0000\u00ca\u00cb\u0005\f\u0000\u0000\u00cb\u00cc"+
+		"\u0003,\u0016\u0000\u00cc\u00cd\u0005\r\u0000\u0000\u00cd\u00ce\u0003"+
+		"\f\u0006\u0000\u00ce\u00d0\u0001\u0000\u0000\u0000\u00cf\u00c9\u0001\u0000"+
+		"\u0000\u0000\u00d0\u00d3\u0001\u0000\u0000\u0000\u00d1\u00cf\u0001\u0000"+
+		"\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d4\u0001\u0000"+
+		"\u0000\u0000\u00d3\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d5\u0005\u0011"+
+		"\u0000\u0000\u00d5\u00d6\u0003\u0012\t\u0000\u00d6\u00d8\u0001\u0000\u0000"+
+		"\u0000\u00d7\u00a8\u0001\u0000\u0000\u0000\u00d7\u00ae\u0001\u0000\u0000"+
+		"\u0000\u00d7\u00c4\u0001\u0000\u0000\u0000\u00d8\u0011\u0001\u0000\u0000"+
+		"\u0000\u00d9\u00dc\u0003\"\u0011\u0000\u00da\u00dc\u0003\u0010\b\u0000"+
+		"\u00db\u00d9\u0001\u0000\u0000\u0000\u00db\u00da\u0001\u0000\u0000\u0000"+
+		"\u00dc\u0013\u0001\u0000\u0000\u0000\u00dd\u00e0\u0003\f\u0006\u0000\u00de"+
+		"\u00e0\u0003\u0012\t\u0000\u00df\u00dd\u0001\u0000\u0000\u0000\u00df\u00de"+
+		"\u0001\u0000\u0000\u0000\u00e0\u0015\u0001\u0000\u0000\u0000\u00e1\u00e2"+
+		"\u0005\u0012\u0000\u0000\u00e2\u00e3\u00055\u0000\u0000\u00e3\u00e4\u0005"+
+		"\u0013\u0000\u0000\u00e4\u00eb\u0003,\u0016\u0000\u00e5\u00e6\u0005\u0007"+
+		"\u0000\u0000\u00e6\u00e7\u00055\u0000\u0000\u00e7\u00e8\u0005\u0013\u0000"+
+		"\u0000\u00e8\u00ea\u0003,\u0016\u0000\u00e9\u00e5\u0001\u0000\u0000\u0000"+
+		"\u00ea\u00ed\u0001\u0000\u0000\u0000\u00eb\u00e9\u0001\u0000\u0000\u0000"+
+		"\u00eb\u00ec\u0001\u0000\u0000\u0000\u00ec\u00ee\u0001\u0000\u0000\u0000"+
+		"\u00ed\u00eb\u0001\u0000\u0000\u0000\u00ee\u00ef\u0005\b\u0000\u0000\u00ef"+
+		"\u0017\u0001\u0000\u0000\u0000\u00f0\u00f4\u0005\u0014\u0000\u0000\u00f1"+
+		"\u00f3\u0003\u0014\n\u0000\u00f2\u00f1\u0001\u0000\u0000\u0000\u00f3\u00f6"+
+		"\u0001\u0000\u0000\u0000\u00f4\u00f2\u0001\u0000\u0000\u0000\u00f4\u00f5"+
+		"\u0001\u0000\u0000\u0000\u00f5\u00f7\u0001\u0000\u0000\u0000\u00f6\u00f4"+
+		"\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005\u0004\u0000\u0000\u00f8\u0019"+
+		"\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005\u0015\u0000\u0000\u00fa\u00fb"+
+		"\u0005\b\u0000\u0000\u00fb\u001b\u0001\u0000\u0000\u0000\u00fc\u00fd\u0005"+
+		"\u0016\u0000\u0000\u00fd\u00fe\u0005\b\u0000\u0000\u00fe\u001d\u0001\u0000"+
+		"\u0000\u0000\u00ff\u0100\u0005\u0017\u0000\u0000\u0100\u0101\u0003,\u0016"+
+		"\u0000\u0101\u0102\u0005\b\u0000\u0000\u0102\u001f\u0001\u0000\u0000\u0000"+
+		"\u0103\u0104\u0005\u0018\u0000\u0000\u0104\u0105\u0005\f\u0000\u0000\u0105"+
+		"\u0106\u0003,\u0016\u0000\u0106\u0107\u0005\r\u0000\u0000\u0107\u0108"+
+		"\u0003\f\u0006\u0000\u0108!\u0001\u0000\u0000\u0000\u0109\u010a\u0005"+
+		"\u0018\u0000\u0000\u010a\u010b\u0005\f\u0000\u0000\u010b\u010c\u0003,"+
+		"\u0016\u0000\u010c\u010d\u0005\r\u0000\u0000\u010d\u010e\u0003\u0012\t"+
+		"\u0000\u010e#\u0001\u0000\u0000\u0000\u010f\u0110\u0005\u0019\u0000\u0000"+
+		"\u0110\u0111\u0005\f\u0000\u0000\u0111\u0112\u0003,\u0016\u0000\u0112"+
+		"\u0113\u0005\r\u0000\u0000\u0113\u0114\u0005\b\u0000\u0000\u0114%\u0001"+
+		"\u0000\u0000\u0000\u0115\u0116\u0003,\u0016\u0000\u0116\u0117\u0005\u0013"+
+		"\u0000\u0000\u0117\u0118\u0003,\u0016\u0000\u0118\u0119\u0005\b\u0000"+
+		"\u0000\u0119\'\u0001\u0000\u0000\u0000\u011a\u011b\u0003,\u0016\u0000"+
+		"\u011b\u011c\u0005\u001a\u0000\u0000\u011c\u011d\u0005\b\u0000\u0000\u011d"+
+		")\u0001\u0000\u0000\u0000\u011e\u011f\u0003,\u0016\u0000\u011f\u0120\u0005"+
+		"\u001b\u0000\u0000\u0120\u0121\u0005\b\u0000\u0000\u0121+\u0001\u0000"+
+		"\u0000\u0000\u0122\u0125\u0006\u0016\uffff\uffff\u0000\u0123\u0126\u0005"+
+		"\u001f\u0000\u0000\u0124\u0126\u0005 \u0000\u0000\u0125\u0123\u0001\u0000"+
+		"\u0000\u0000\u0125\u0124\u0001\u0000\u0000\u0000\u0126\u0127\u0001\u0000"+
+		"\u0000\u0000\u0127\u012a\u0003,\u0016\b\u0128\u012a\u0003.\u0017\u0000"+
+		"\u0129\u0122\u0001\u0000\u0000\u0000\u0129\u0128\u0001\u0000\u0000\u0000"+
+		"\u012a\u0163\u0001\u0000\u0000\u0000\u012b\u012f\n\u0007\u0000\u0000\u012c"+
+		"\u0130\u0005!\u0000\u0000\u012d\u0130\u0005\"\u0000\u0000\u012e\u0130"+
+		"\u0005#\u0000\u0000\u012f\u012c\u0001\u0000\u0000\u0000\u012f\u012d\u0001"+
+		"\u0000\u0000\u0000\u012f\u012e\u0001\u0000\u0000\u0000\u0130\u0131\u0001"+
+		"\u0000\u0000\u0000\u0131\u0162\u0003,\u0016\b\u0132\u0135\n\u0006\u0000"+
+		"\u0000\u0133\u0136\u0005$\u0000\u0000\u0134\u0136\u0005 \u0000\u0000\u0135"+
+		"\u0133\u0001\u0000\u0000\u0000\u0135\u0134\u0001\u0000\u0000\u0000\u0136"+
+		"\u0137\u0001\u0000\u0000\u0000\u0137\u0162\u0003,\u0016\u0007\u0138\u013b"+
+		"\n\u0005\u0000\u0000\u0139\u013c\u0005%\u0000\u0000\u013a\u013c\u0005"+
+		"&\u0000\u0000\u013b\u0139\u0001\u0000\u0000\u0000\u013b\u013a\u0001\u0000"+
+		"\u0000\u0000\u013c\u013d\u0001\u0000\u0000\u0000\u013d\u0162\u0003,\u0016"+
+		"\u0006\u013e\u0141\n\u0004\u0000\u0000\u013f\u0142\u0005\'\u0000\u0000"+
+		"\u0140\u0142\u0005(\u0000\u0000\u0141\u013f\u0001\u0000\u0000\u0000\u0141"+
+		"\u0140\u0001\u0000\u0000\u0000\u0142\u0143\u0001\u0000\u0000\u0000\u0143"+
+		"\u0162\u0003,\u0016\u0005\u0144\u0145\n\u0003\u0000\u0000\u0145\u0146"+
+		"\u0005)\u0000\u0000\u0146\u0162\u0003,\u0016\u0004\u0147\u0148\n\u0002"+
+		"\u0000\u0000\u0148\u0149\u0005*\u0000\u0000\u0149\u0162\u0003,\u0016\u0003"+
+		"\u014a\u014b\n\u000b\u0000\u0000\u014b\u014c\u0005\u001c\u0000\u0000\u014c"+
+		"\u014d\u00055\u0000\u0000\u014d\u0156\u0005\f\u0000\u0000\u014e\u0153"+
+		"\u0003,\u0016\u0000\u014f\u0150\u0005\u0007\u0000\u0000\u0150\u0152\u0003"+
+		",\u0016\u0000\u0151\u014f\u0001\u0000\u0000\u0000\u0152\u0155\u0001\u0000"+
+		"\u0000\u0000\u0153\u0151\u0001\u0000\u0000\u0000\u0153\u0154\u0001\u0000"+
+		"\u0000\u0000\u0154\u0157\u0001\u0000\u0000\u0000\u0155\u0153\u0001\u0000"+
+		"\u0000\u0000\u0156\u014e\u0001\u0000\u0000\u0000\u0156\u0157\u0001\u0000"+
+		"\u0000\u0000\u0157\u0158\u0001\u0000\u0000\u0000\u0158\u0162\u0005\r\u0000"+
+		"\u0000\u0159\u015a\n\n\u0000\u0000\u015a\u015b\u0005\u001c\u0000\u0000"+
+		"\u015b\u0162\u00055\u0000\u0000\u015c\u015d\n\t\u0000\u0000\u015d\u015e"+
+		"\u0005\u001d\u0000\u0000\u015e\u015f\u0003,\u0016\u0000\u015f\u0160\u0005"+
+		"\u001e\u0000\u0000\u0160\u0162\u0001\u0000\u0000\u0000\u0161\u012b\u0001"+
+		"\u0000\u0000\u0000\u0161\u0132\u0001\u0000\u0000\u0000\u0161\u0138\u0001"+
+		"\u0000\u0000\u0000\u0161\u013e\u0001\u0000\u0000\u0000\u0161\u0144\u0001"+
+		"\u0000\u0000\u0000\u0161\u0147\u0001\u0000\u0000\u0000\u0161\u014a\u0001"+
+		"\u0000\u0000\u0000\u0161\u0159\u0001\u0000\u0000\u0000\u0161\u015c\u0001"+
+		"\u0000\u0000\u0000\u0162\u0165\u0001\u0000\u0000\u0000\u0163\u0161\u0001"+
+		"\u0000\u0000\u0000\u0163\u0164\u0001\u0000\u0000\u0000\u0164-\u0001\u0000"+
+		"\u0000\u0000\u0165\u0163\u0001\u0000\u0000\u0000\u0166\u018d\u00052\u0000"+
+		"\u0000\u0167\u018d\u00053\u0000\u0000\u0168\u0169\u0005+\u0000\u0000\u0169"+
+		"\u016a\u00032\u0019\u0000\u016a\u016b\u0005\u001d\u0000\u0000\u016b\u016c"+
+		"\u0003,\u0016\u0000\u016c\u016d\u0005\u001e\u0000\u0000\u016d\u018d\u0001"+
+		"\u0000\u0000\u0000\u016e\u016f\u0005+\u0000\u0000\u016f\u0170\u00055\u0000"+
+		"\u0000\u0170\u0171\u0005\f\u0000\u0000\u0171\u018d\u0005\r\u0000\u0000"+
+		"\u0172\u018d\u0005,\u0000\u0000\u0173\u018d\u0005-\u0000\u0000\u0174\u018d"+
+		"\u0005.\u0000\u0000\u0175\u018d\u00055\u0000\u0000\u0176\u0177\u00055"+
+		"\u0000\u0000\u0177\u0178\u0005\u001d\u0000\u0000\u0178\u0179\u0003,\u0016"+
+		"\u0000\u0179\u017a\u0005\u001e\u0000\u0000\u017a\u018d\u0001\u0000\u0000"+
+		"\u0000\u017b\u017c\u0005\f\u0000\u0000\u017c\u017d\u0003,\u0016\u0000"+
+		"\u017d\u017e\u0005\r\u0000\u0000\u017e\u018d\u0001\u0000\u0000\u0000\u017f"+
+		"\u0180\u00055\u0000\u0000\u0180\u0189\u0005\f\u0000\u0000\u0181\u0186"+
+		"\u0003,\u0016\u0000\u0182\u0183\u0005\u0007\u0000\u0000\u0183\u0185\u0003"+
+		",\u0016\u0000\u0184\u0182\u0001\u0000\u0000\u0000\u0185\u0188\u0001\u0000"+
+		"\u0000\u0000\u0186\u0184\u0001\u0000\u0000\u0000\u0186\u0187\u0001\u0000"+
+		"\u0000\u0000\u0187\u018a\u0001\u0000\u0000\u0000\u0188\u0186\u0001\u0000"+
+		"\u0000\u0000\u0189\u0181\u0001\u0000\u0000\u0000\u0189\u018a\u0001\u0000"+
+		"\u0000\u0000\u018a\u018b\u0001\u0000\u0000\u0000\u018b\u018d\u0005\r\u0000"+
+		"\u0000\u018c\u0166\u0001\u0000\u0000\u0000\u018c\u0167\u0001\u0000\u0000"+
+		"\u0000\u018c\u0168\u0001\u0000\u0000\u0000\u018c\u016e\u0001\u0000\u0000"+
+		"\u0000\u018c\u0172\u0001\u0000\u0000\u0000\u018c\u0173\u0001\u0000\u0000"+
+		"\u0000\u018c\u0174\u0001\u0000\u0000\u0000\u018c\u0175\u0001\u0000\u0000"+
+		"\u0000\u018c\u0176\u0001\u0000\u0000\u0000\u018c\u017b\u0001\u0000\u0000"+
+		"\u0000\u018c\u017f\u0001\u0000\u0000\u0000\u018d/\u0001\u0000\u0000\u0000"+
+		"\u018e\u0191\u00032\u0019\u0000\u018f\u0190\u0005\u001d\u0000\u0000\u0190"+
+		"\u0192\u0005\u001e\u0000\u0000\u0191\u018f\u0001\u0000\u0000\u0000\u0191"+
+		"\u0192\u0001\u0000\u0000\u0000\u01921\u0001\u0000\u0000\u0000\u0193\u0198"+
+		"\u0005/\u0000\u0000\u0194\u0198\u00050\u0000\u0000\u0195\u0198\u00051"+
+		"\u0000\u0000\u0196\u0198\u00055\u0000\u0000\u0197\u0193\u0001\u0000\u0000"+
+		"\u0000\u0197\u0194\u0001\u0000\u0000\u0000\u0197\u0195\u0001\u0000\u0000"+
+		"\u0000\u0197\u0196\u0001\u0000\u0000\u0000\u01983\u0001\u0000\u0000\u0000"+
+		"#7>GLNW_hvy\u0082\u0093\u00a2\u00bb\u00d1\u00d7\u00db\u00df\u00eb\u00f4"+
+		"\u0125\u0129\u012f\u0135\u013b\u0141\u0153\u0156\u0161\u0163\u0186\u0189"+
+		"\u018c\u0191\u0197";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
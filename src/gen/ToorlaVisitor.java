@@ -142,101 +142,82 @@ public interface ToorlaVisitor<T> extends ParseTreeVisitor<T> {
 	 */
 	T visitStatementDec(ToorlaParser.StatementDecContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expression}.
+	 * Visit a parse tree produced by the {@code expressionAdd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpression(ToorlaParser.ExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionOr}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionOr(ToorlaParser.ExpressionOrContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionOrTemp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionOrTemp(ToorlaParser.ExpressionOrTempContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionAnd}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
+	T visitExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionAndTemp}.
+	 * Visit a parse tree produced by the {@code expressionFieldAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAndTemp(ToorlaParser.ExpressionAndTempContext ctx);
+	T visitExpressionFieldAccess(ToorlaParser.ExpressionFieldAccessContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionEq}.
+	 * Visit a parse tree produced by the {@code expressionEq}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitExpressionEq(ToorlaParser.ExpressionEqContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionEqTemp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionEqTemp(ToorlaParser.ExpressionEqTempContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionCmp}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionCmpTemp}.
+	 * Visit a parse tree produced by the {@code expressionUnary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionCmpTemp(ToorlaParser.ExpressionCmpTempContext ctx);
+	T visitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionAdd}.
+	 * Visit a parse tree produced by the {@code expressionAnd}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAdd(ToorlaParser.ExpressionAddContext ctx);
+	T visitExpressionAnd(ToorlaParser.ExpressionAndContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionAddTemp}.
+	 * Visit a parse tree produced by the {@code expressionMultMod}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionAddTemp(ToorlaParser.ExpressionAddTempContext ctx);
+	T visitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionMultMod}.
+	 * Visit a parse tree produced by the {@code expressionCmp}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMultMod(ToorlaParser.ExpressionMultModContext ctx);
+	T visitExpressionCmp(ToorlaParser.ExpressionCmpContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionMultModTemp}.
+	 * Visit a parse tree produced by the {@code expressionOr}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMultModTemp(ToorlaParser.ExpressionMultModTempContext ctx);
+	T visitExpressionOr(ToorlaParser.ExpressionOrContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionUnary}.
+	 * Visit a parse tree produced by the {@code expressionArrayAccess}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionUnary(ToorlaParser.ExpressionUnaryContext ctx);
+	T visitExpressionArrayAccess(ToorlaParser.ExpressionArrayAccessContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionMethods}.
+	 * Visit a parse tree produced by the {@code expressionPrimary}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMethods(ToorlaParser.ExpressionMethodsContext ctx);
+	T visitExpressionPrimary(ToorlaParser.ExpressionPrimaryContext ctx);
 	/**
-	 * Visit a parse tree produced by {@link ToorlaParser#expressionMethodsTemp}.
+	 * Visit a parse tree produced by the {@code expressionMethodCall}
+	 * labeled alternative in {@link ToorlaParser#expression}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
-	T visitExpressionMethodsTemp(ToorlaParser.ExpressionMethodsTempContext ctx);
+	T visitExpressionMethodCall(ToorlaParser.ExpressionMethodCallContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link ToorlaParser#expressionOther}.
 	 * @param ctx the parse tree
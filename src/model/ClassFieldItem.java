@@ -2,17 +2,23 @@ package model;
 
 public class ClassFieldItem extends SymbolItem {
 
-    private final String type;
+    private final Type type;
     private final boolean isDefined;
 
-    public ClassFieldItem(String name, String type, boolean isDefined) {
+    public ClassFieldItem(String name, Type type, boolean isDefined) {
         super(name);
         this.type = type;
         this.isDefined = isDefined;
     }
 
+    public Type getType() {
+        return type;
+    }
+
     @Override
-    public String toString() {
-        return String.format("ClassField (name: %s) (type: %s) (isDefined: %s)", getName(), type, isDefined);
+    public void appendTo(StringBuilder output) {
+        output.append("ClassField (name: ").append(getName())
+                .append(") (type: ").append(type)
+                .append(") (isDefined: ").append(isDefined).append(')');
     }
 }
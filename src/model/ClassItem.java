@@ -11,8 +11,14 @@ public class ClassItem extends SymbolItem {
         this.isEntry = isEntry;
     }
 
+    public String getParent() {
+        return parent;
+    }
+
     @Override
-    public String toString() {
-        return String.format("Class (name: %s) (parent: %s) (isEntry: %s)", getName(), parent, isEntry);
+    public void appendTo(StringBuilder output) {
+        output.append("Class (name: ").append(getName())
+                .append(") (parent: ").append(parent)
+                .append(") (isEntry: ").append(isEntry).append(')');
     }
 }
@@ -13,25 +13,20 @@ public class ConstructorItem extends SymbolItem {
     }
 
     @Override
-    public String toString() {
-        return String.format(
-                "Constructor (name: %s) (parameter list: %s) (access modifier: %s)",
-                getName(),
-                stringifyParameters(),
-                accessModifier
-        );
+    public void appendTo(StringBuilder output) {
+        output.append("Constructor (name: ").append(getName()).append(") (parameter list: ");
+        appendParameters(output);
+        output.append(") (access modifier: ").append(accessModifier).append(')');
     }
 
-    private String stringifyParameters() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("[");
+    private void appendParameters(StringBuilder output) {
+        output.append("[");
         for (int i = 0; i < params.length; i++) {
-            builder.append(params[i]);
+            params[i].appendTo(output);
             if(i != params.length - 1)
-                builder.append(", ");
+                output.append(", ");
         }
-        builder.append("]");
-        return builder.toString();
+        output.append("]");
     }
 
 }
@@ -4,12 +4,12 @@ import java.util.Objects;
 
 public class MethodItem extends SymbolItem {
 
-    private final String returnType;
+    private final Type returnType;
     private final String accessModifier;
 
     private final ParamModel[] params;
 
-    public MethodItem(String name, String returnType, String accessModifier, ParamModel[] params) {
+    public MethodItem(String name, Type returnType, String accessModifier, ParamModel[] params) {
         super(name);
         this.returnType = returnType;
         this.accessModifier = accessModifier;
@@ -17,26 +17,21 @@ public class MethodItem extends SymbolItem {
     }
 
     @Override
-    public String toString() {
-        return String.format(
-                "Method (name: %s) (parameter list: %s) (return type: %s) (access modifier: %s)",
-                getName(),
-                stringifyParameters(),
-                returnType,
-                accessModifier
-        );
+    public void appendTo(StringBuilder output) {
+        output.append("Method (name: ").append(getName()).append(") (parameter list: ");
+        appendParameters(output);
+        output.append(") (return type: ").append(returnType)
+                .append(") (access modifier: ").append(accessModifier).append(')');
     }
 
-    private String stringifyParameters() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("[");
+    private void appendParameters(StringBuilder output) {
+        output.append("[");
         for (int i = 0; i < params.length; i++) {
-            builder.append(params[i]);
+            params[i].appendTo(output);
             if(i != params.length - 1)
-                builder.append(", ");
+                output.append(", ");
         }
-        builder.append("]");
-        return builder.toString();
+        output.append("]");
     }
 
     @Override
@@ -52,7 +47,7 @@ public class MethodItem extends SymbolItem {
             return false;
 
         for(int i = 0; i < params.length; i++) {
-            if(!params[i].getType().equals(other[i].getType()))
+            if(params[i].getType() != other[i].getType())
                 return false;
         }
 
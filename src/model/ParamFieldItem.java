@@ -2,21 +2,27 @@ package model;
 
 public class ParamFieldItem extends SymbolItem {
 
-    private final String type;
+    private final Type type;
     private final boolean isDefined;
 
-    public ParamFieldItem(String name, String type, boolean isDefined) {
+    public ParamFieldItem(String name, Type type, boolean isDefined) {
         super(name);
         this.type = type;
         this.isDefined = isDefined;
     }
 
-    public ParamFieldItem(String name, String type) {
+    public ParamFieldItem(String name, Type type) {
         this(name, type, true);
     }
 
+    public Type getType() {
+        return type;
+    }
+
     @Override
-    public String toString() {
-        return String.format("ParamField (name: %s) (type: %s) (isDefined: %s)", getName(), type, isDefined);
+    public void appendTo(StringBuilder output) {
+        output.append("ParamField (name: ").append(getName())
+                .append(") (type: ").append(type)
+                .append(") (isDefined: ").append(isDefined).append(')');
     }
 }
@@ -3,21 +3,29 @@ package model;
 public class ParamModel {
 
     private final String name;
-    private final String type;
+    private final Type type;
     private final int index;
 
-    public ParamModel(String name, String type, int index) {
+    public ParamModel(String name, Type type, int index) {
         this.name = name;
         this.type = type;
         this.index = index;
     }
 
+    public void appendTo(StringBuilder output) {
+        output.append("{name: ").append(name)
+                .append(", type: ").append(type)
+                .append(", index: ").append(index).append('}');
+    }
+
     @Override
     public String toString() {
-        return String.format("{name: %s, type: %s, index: %s}", name, type, index);
+        var output = new StringBuilder();
+        appendTo(output);
+        return output.toString();
     }
 
-    public String getType() {
+    public Type getType() {
         return type;
     }
 
@@ -11,4 +11,16 @@ public abstract class SymbolItem {
     public String getName() {
         return name;
     }
+
+    /**
+     * Appends the description of this item shown in symbol table dumps.
+     */
+    public abstract void appendTo(StringBuilder output);
+
+    @Override
+    public String toString() {
+        var output = new StringBuilder();
+        appendTo(output);
+        return output.toString();
+    }
 }
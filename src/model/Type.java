@@ -0,0 +1,59 @@
+package model;
+
+/**
+ * A type of the language. Types are interned by a TypeTable, so two types are the same exactly
+ * when they are the same object and can be compared with ==.
+ */
+public final class Type {
+
+    public enum Kind {
+        PRIMITIVE,
+        CLASS,
+        ARRAY,
+        // The type of a variable whose initializer could not be typed, or of a declaration that
+        // could not be parsed
+        UNKNOWN
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final Type elementType;
+
+    Type(Kind kind, String name, Type elementType) {
+        this.kind = kind;
+        this.name = name;
+        this.elementType = elementType;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the name of the type as it is written in the source, e.g. int, A or string[].
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of the elements of an array type, or null for other types.
+     */
+    public Type getElementType() {
+        return elementType;
+    }
+
+    public boolean isClass() {
+        return kind == Kind.CLASS;
+    }
+
+    public boolean isArray() {
+        return kind == Kind.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
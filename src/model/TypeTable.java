@@ -0,0 +1,60 @@
+package model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates the types of one compilation. Every type is created once, so that types can be compared
+ * by identity and looking up a type that was seen before does not allocate.
+ */
+public class TypeTable {
+
+    private final Type intType = new Type(Type.Kind.PRIMITIVE, "int", null);
+    private final Type boolType = new Type(Type.Kind.PRIMITIVE, "bool", null);
+    private final Type stringType = new Type(Type.Kind.PRIMITIVE, "string", null);
+    // Boolean literals have always been listed as boolean, which is not the bool of declarations
+    private final Type booleanLiteralType = new Type(Type.Kind.PRIMITIVE, "boolean", null);
+    private final Type unknownType = new Type(Type.Kind.UNKNOWN, "local var", null);
+
+    private final Map<String, Type> classTypes = new HashMap<>();
+    private final Map<String, Type> malformedTypes = new HashMap<>();
+    // Element types are interned as well, so the map can be keyed by them
+    private final Map<Type, Type> arrayTypes = new HashMap<>();
+
+    public Type getInt() {
+        return intType;
+    }
+
+    public Type getBool() {
+        return boolType;
+    }
+
+    public Type getString() {
+        return stringType;
+    }
+
+    public Type getBooleanLiteral() {
+        return booleanLiteralType;
+    }
+
+    public Type getUnknown() {
+        return unknownType;
+    }
+
+    public Type getClassType(String className) {
+        return classTypes.computeIfAbsent(className, name -> new Type(Type.Kind.CLASS, name, null));
+    }
+
+    /**
+     * Returns the type of a declaration the parser had to recover, named by what was written for
+     * it, e.g. :int for a stray colon before the type.
+     */
+    public Type getMalformedType(String text) {
+        return malformedTypes.computeIfAbsent(text, name -> new Type(Type.Kind.UNKNOWN, name, null));
+    }
+
+    public Type getArrayType(Type elementType) {
+        return arrayTypes.computeIfAbsent(elementType, element -> new Type(Type.Kind.ARRAY, element.getName() + "[]", element));
+    }
+
+}